@@ -0,0 +1,101 @@
+-- 고아 이미지 조회 쿼리 벤치마크 (이미지 1,000만 건)
+-- 실행: docker exec -i example_mysql mysql -uroot -p1234 example < db/mysql/benchmark/orphan_image_query.sql
+--
+-- 1) 별도 테이블(image_bench)에 1,000만 건 생성 (상품 매핑 95%, 고아 5%, 생성일은 최근 60일에 분포)
+-- 2) 인덱스 없이 / idx_image_product_id_created_at 인덱스 적용 후 동일 쿼리의 실행 계획(EXPLAIN ANALYZE)과 지연시간 비교
+-- 3) 엔티티 조회(SELECT *)와 프로젝션 조회(id, path, name, created_at, stored_object_hash) 비교
+-- 4) (product_id, created_at) 인덱스는 커버링 인덱스가 아님 (path, name, stored_object_hash는 청크 행마다 PK 조회)
+--    [E]에서 조회 컬럼을 모두 포함한 커버링 인덱스와 비교하여 청크당 PK 조회 비용과 인덱스 크기 차이 확인
+
+DROP TABLE IF EXISTS image_bench;
+CREATE TABLE image_bench
+(
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    path       VARCHAR(255) NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    product_id BIGINT       NULL,
+    stored_object_hash VARCHAR(64) NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL
+) ENGINE = InnoDB;
+
+-- 1,000 x 1,000 = 100만 건 생성
+INSERT INTO image_bench (id, path, name, product_id, stored_object_hash, created_at, updated_at)
+WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 999)
+SELECT a.n * 1000 + b.n + 1,
+       'product/',
+       CONCAT(UUID(), '.jpg'),
+       IF(RAND() < 0.95, FLOOR(RAND() * 100000) + 1, NULL),
+       SHA2(UUID(), 256),
+       NOW(6) - INTERVAL FLOOR(RAND() * 60 * 24 * 60) MINUTE,
+       NOW(6)
+FROM seq a
+         CROSS JOIN seq b;
+
+-- 9회 복제하여 1,000만 건
+INSERT INTO image_bench (id, path, name, product_id, stored_object_hash, created_at, updated_at)
+SELECT id + 1000000 * k.k, path, CONCAT(UUID(), '.jpg'), product_id, SHA2(UUID(), 256), created_at - INTERVAL k.k HOUR, updated_at
+FROM image_bench
+         CROSS JOIN (SELECT 1 k UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5
+                     UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) k;
+ANALYZE TABLE image_bench;
+
+SET @threshold = NOW(6) - INTERVAL 7 DAY;
+
+-- [A] 인덱스 없음 + 엔티티 조회: 풀 스캔 후 filesort
+EXPLAIN ANALYZE
+SELECT * FROM image_bench
+WHERE product_id IS NULL AND created_at < @threshold
+ORDER BY created_at, id
+LIMIT 5000;
+
+-- [B] 인덱스 없음 + 프로젝션 조회
+EXPLAIN ANALYZE
+SELECT id, path, name, created_at, stored_object_hash FROM image_bench
+WHERE product_id IS NULL AND created_at < @threshold
+ORDER BY created_at, id
+LIMIT 5000;
+
+ALTER TABLE image_bench ADD INDEX idx_image_product_id_created_at (product_id, created_at);
+ANALYZE TABLE image_bench;
+
+-- [C] 인덱스 + 프로젝션 조회 (첫 청크): product_id = NULL 범위를 created_at, id 순서로 읽고 5,000건에서 종료
+EXPLAIN ANALYZE
+SELECT id, path, name, created_at, stored_object_hash FROM image_bench
+WHERE product_id IS NULL AND created_at < @threshold
+ORDER BY created_at, id
+LIMIT 5000;
+
+-- [D] 인덱스 + 프로젝션 조회 (중간 청크, 키셋 커서): 이전 청크 위치와 관계없이 [C]와 같은 비용
+SELECT created_at, id INTO @cursor_created_at, @cursor_id FROM image_bench
+WHERE product_id IS NULL AND created_at < @threshold
+ORDER BY created_at, id
+LIMIT 1 OFFSET 200000;
+
+EXPLAIN ANALYZE
+SELECT id, path, name, created_at, stored_object_hash FROM image_bench
+WHERE product_id IS NULL AND created_at < @threshold
+  AND (created_at > @cursor_created_at OR (created_at = @cursor_created_at AND id > @cursor_id))
+ORDER BY created_at, id
+LIMIT 5000;
+
+-- [E] 커버링 인덱스 + 프로젝션 조회 (첫 청크): PK 조회 없이 인덱스만으로 처리 (Extra: Using index)
+--     [C]와의 지연시간 차이와 인덱스 크기(innodb_index_stats) 차이를 비교
+SELECT index_name, stat_value * @@innodb_page_size / 1024 / 1024 AS size_mb
+FROM mysql.innodb_index_stats
+WHERE table_name = 'image_bench' AND stat_name = 'size';
+
+ALTER TABLE image_bench ADD INDEX idx_image_bench_covering (product_id, created_at, path, name, stored_object_hash);
+ANALYZE TABLE image_bench;
+
+EXPLAIN ANALYZE
+SELECT id, path, name, created_at, stored_object_hash FROM image_bench FORCE INDEX (idx_image_bench_covering)
+WHERE product_id IS NULL AND created_at < @threshold
+ORDER BY created_at, id
+LIMIT 5000;
+
+SELECT index_name, stat_value * @@innodb_page_size / 1024 / 1024 AS size_mb
+FROM mysql.innodb_index_stats
+WHERE table_name = 'image_bench' AND stat_name = 'size';
+
+DROP TABLE image_bench;
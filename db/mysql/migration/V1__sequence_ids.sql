@@ -0,0 +1,21 @@
+-- IDENTITY -> 시퀀스(pooled) ID 전략 전환
+-- 애플리케이션 배포 전에 실행해야 함 (Hibernate가 next_val = 1 로 시퀀스 테이블을 먼저 만들면 기존 ID와 충돌)
+--
+-- pooled 최적화기는 시퀀스 값 V를 읽으면 (V - 49) ~ V 범위의 ID를 사용하므로
+-- next_val 을 기존 최대 ID + 51 로 설정하여 새 ID가 항상 기존 ID보다 크도록 보장
+
+CREATE TABLE IF NOT EXISTS image_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO image_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM image
+WHERE NOT EXISTS (SELECT 1 FROM image_seq);
+
+CREATE TABLE IF NOT EXISTS product_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO product_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM product
+WHERE NOT EXISTS (SELECT 1 FROM product_seq);
+
+-- 더 이상 사용하지 않는 AUTO_INCREMENT 제거 (product.id는 image.product_id 외래 키가 참조하므로 검사 일시 해제)
+SET FOREIGN_KEY_CHECKS = 0;
+ALTER TABLE image MODIFY id BIGINT NOT NULL;
+ALTER TABLE product MODIFY id BIGINT NOT NULL;
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,15 @@
+-- image_variant (image_id, variant) 유니크 제약 추가
+-- 애플리케이션 배포 전에 실행해야 함 (ddl-auto: update는 중복 행이 있으면 제약 추가에 실패)
+--
+-- 노드 간 동시 생성으로 중복 기록된 변환본은 같은 결정적 키의 S3 객체를 가리키므로 가장 작은 id만 남기고 삭제
+
+DELETE duplicate FROM image_variant duplicate
+JOIN image_variant kept
+  ON kept.image_id = duplicate.image_id
+ AND kept.variant = duplicate.variant
+ AND kept.id < duplicate.id;
+
+ALTER TABLE image_variant ADD CONSTRAINT uk_image_variant_image_id_variant UNIQUE (image_id, variant);
+
+-- image_id 단일 인덱스는 유니크 인덱스의 선행 컬럼으로 대체 (외래 키도 유니크 인덱스 사용)
+ALTER TABLE image_variant DROP INDEX idx_image_variant_image_id;
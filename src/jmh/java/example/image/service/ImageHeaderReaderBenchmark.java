@@ -0,0 +1,50 @@
+package example.image.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 1건당 헤더 검증 비용 (매직 바이트 + 헤더 크기 조회), 전체 디코딩(ImageIO.read)과 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ImageHeaderReaderBenchmark {
+
+    @Param({"jpg", "png", "gif"})
+    private String extension;
+
+    private ImageHeaderReader imageHeaderReader;
+    private byte[] image;
+
+    @Setup
+    public void setUp() throws IOException {
+        imageHeaderReader = new ImageHeaderReader();
+        DirectFieldAccessor accessor = new DirectFieldAccessor(imageHeaderReader);
+        accessor.setPropertyValue("maxPixels", 100_000_000L);
+        accessor.setPropertyValue("maxHeaderSize", DataSize.ofMegabytes(1));
+
+        BufferedImage bufferedImage = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(bufferedImage, extension.equals("jpg") ? "jpeg" : extension, outputStream);
+        image = outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public int validateHeader() {
+        return imageHeaderReader.validate(new ByteArrayInputStream(image), extension).width();
+    }
+
+    @Benchmark
+    public int decodeFully() throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(image)).getWidth();
+    }
+}
@@ -0,0 +1,115 @@
+package example.image.service;
+
+import example.domain.images.Image;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 업로드/삭제 경로 중 저장소, DB를 거치지 않는 단계의 비용
+ * - validateImage: 파일 존재, 확장자, 헤더(형식/해상도) 검증
+ * - createImageName, getKey: 저장 키 생성 (UUID.randomUUID는 SecureRandom 사용)
+ * - getFullKeys: 삭제할 원본 + 변환본 키 목록 생성
+ * - private 메서드는 static final MethodHandle로 호출 (상수이므로 JIT가 직접 호출처럼 인라인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ImageServiceBenchmark {
+
+    private static final MethodHandle VALIDATE_IMAGE;
+    private static final MethodHandle CREATE_IMAGE_NAME;
+    private static final MethodHandle GET_FULL_KEYS;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(ImageService.class, MethodHandles.lookup());
+            VALIDATE_IMAGE = lookup.findVirtual(ImageService.class, "validateImage",
+                    MethodType.methodType(void.class, MultipartFile.class));
+            CREATE_IMAGE_NAME = lookup.findVirtual(ImageService.class, "createImageName",
+                    MethodType.methodType(String.class, String.class));
+            GET_FULL_KEYS = lookup.findVirtual(ImageService.class, "getFullKeys",
+                    MethodType.methodType(List.class, List.class));
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    private ImageService imageService;
+    private MultipartFile imageFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        ImageHeaderReader imageHeaderReader = new ImageHeaderReader();
+        DirectFieldAccessor accessor = new DirectFieldAccessor(imageHeaderReader);
+        accessor.setPropertyValue("maxPixels", 100_000_000L);
+        accessor.setPropertyValue("maxHeaderSize", DataSize.ofMegabytes(1));
+
+        UploadMetrics uploadMetrics = new UploadMetrics(new SimpleMeterRegistry());
+        uploadMetrics.init();
+
+        // 검증, 키 생성에 필요한 의존성만 주입 (저장소, DB 관련 의존성은 사용하지 않음)
+        imageService = new ImageService(null, null, null, imageHeaderReader, uploadMetrics, null, null, null, null, null, null);
+
+        BufferedImage bufferedImage = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(bufferedImage, "jpeg", outputStream);
+        imageFile = new MockMultipartFile("imageFile", "image.jpg", MediaType.IMAGE_JPEG_VALUE, outputStream.toByteArray());
+    }
+
+    // 삭제 대상 이미지 목록 (이미지마다 변환본 3개)
+    @State(Scope.Benchmark)
+    public static class Images {
+
+        @Param({"10", "100"})
+        private int imageCount;
+
+        private List<Image> images;
+
+        @Setup
+        public void setUp() {
+            images = IntStream.range(0, imageCount)
+                    .mapToObj(index -> {
+                        String uuid = UUID.randomUUID().toString();
+                        Image image = Image.create("product/", uuid + ".jpg");
+                        image.addVariant("thumbnail", uuid + "_thumbnail.jpg", 320, 180);
+                        image.addVariant("medium", uuid + "_medium.jpg", 800, 450);
+                        image.addVariant("large", uuid + "_large.jpg", 1600, 900);
+                        return image;
+                    })
+                    .toList();
+        }
+    }
+
+    @Benchmark
+    public void validateImage() throws Throwable {
+        VALIDATE_IMAGE.invokeExact(imageService, imageFile);
+    }
+
+    @Benchmark
+    public String createKey() throws Throwable {
+        String imageName = (String) CREATE_IMAGE_NAME.invokeExact(imageService, "image.jpg");
+        return Image.create("product/", imageName).getKey();
+    }
+
+    @Benchmark
+    public List<?> getFullKeys(Images state) throws Throwable {
+        return (List<?>) GET_FULL_KEYS.invokeExact(imageService, state.images);
+    }
+}
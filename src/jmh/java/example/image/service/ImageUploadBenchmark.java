@@ -0,0 +1,121 @@
+package example.image.service;
+
+import example.S3ImageServiceApplication;
+import example.domain.images.Image;
+import example.domain.images.ImageType;
+import example.image.storage.ImageStorage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드/삭제 end-to-end 비용 (메모리 저장소 + H2 내장 DB, 실제 ImageService 빈과 트랜잭션 사용)
+ * - upload: 검증 -> 해시 -> 변환본 생성/저장 -> 원본 저장 -> 저장 객체 참조 등록 -> DB 저장
+ * - deleteImage: 저장 객체 참조 감소 + 이미지/변환본 DB 삭제 (매 호출 전에 이미지 1건 업로드)
+ * - content=unique: 매번 다른 내용 (JPEG 끝(EOI) 뒤에 순번을 붙여 해시만 다르게 함), duplicate: 같은 내용 (중복 제거로 저장 생략)
+ * - 반복(iteration)마다 DB, 저장소를 비워 데이터가 쌓이지 않도록 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ImageUploadBenchmark {
+
+    @Param({"unique", "duplicate"})
+    private String content;
+
+    private ConfigurableApplicationContext context;
+    private ImageService imageService;
+    private ImageStorage imageStorage;
+    private JdbcTemplate jdbcTemplate;
+    private byte[] image;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // 명령행 인자는 application.yml보다 우선하므로 MySQL, S3 설정을 H2, 메모리 저장소로 대체
+        context = new SpringApplicationBuilder(S3ImageServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.show_sql=false",
+                        "--logging.level.org.hibernate.sql=warn",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+                        "--aws.s3.access-key=benchmark",
+                        "--aws.s3.secret-key=benchmark",
+                        "--aws.s3.bucket-name=benchmark",
+                        "--aws.region=ap-northeast-2",
+                        "--image.storage.type=memory"
+                );
+        imageService = context.getBean(ImageService.class);
+        imageStorage = context.getBean(ImageStorage.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        BufferedImage bufferedImage = new BufferedImage(1280, 720, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(bufferedImage, "jpeg", outputStream);
+        image = outputStream.toByteArray();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        jdbcTemplate.update("delete from image_variant");
+        jdbcTemplate.update("delete from image");
+        jdbcTemplate.update("delete from stored_object");
+        imageStorage.deleteAll(imageStorage.list(""));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 삭제할 이미지 (호출마다 새로 업로드, 측정 시간에는 포함되지 않음)
+    @State(Scope.Thread)
+    public static class UploadedImage {
+
+        private Image image;
+
+        @Setup(Level.Invocation)
+        public void upload(ImageUploadBenchmark benchmark) {
+            image = benchmark.upload();
+        }
+    }
+
+    @Benchmark
+    public Image upload() {
+        return imageService.upload(nextImageFile(), ImageType.PRODUCT);
+    }
+
+    @Benchmark
+    public void deleteImage(UploadedImage uploadedImage) {
+        imageService.deleteImage(List.of(uploadedImage.image));
+    }
+
+    private MultipartFile nextImageFile() {
+        byte[] bytes = image;
+        if (content.equals("unique")) {
+            bytes = Arrays.copyOf(image, image.length + Long.BYTES);
+            ByteBuffer.wrap(bytes, image.length, Long.BYTES).putLong(sequence++);
+        }
+        return new MockMultipartFile("imageFile", "image.jpg", MediaType.IMAGE_JPEG_VALUE, bytes);
+    }
+}
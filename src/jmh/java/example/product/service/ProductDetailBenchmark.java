@@ -0,0 +1,86 @@
+package example.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import example.domain.images.repository.dto.ImageInfo;
+import example.domain.products.Product;
+import example.image.controller.dto.ImageResponse;
+import example.product.controller.dto.ProductResponse;
+import example.product.service.dto.CachedProductDetail;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 상품 상세 캐시 miss 시 DB 조회 이후 단계의 비용
+ * - mapResponse: ImageInfo -> ImageResponse, ProductResponse 조립 (ProductService.detailProduct)
+ * - serialize: UTF-8 JSON 직렬화 + ETag 생성 (ProductDetailJsonCache)
+ * - 서명 URL은 ImageUrlSigner 캐시 hit 상황과 같이 미리 만든 값 사용 (원본 + thumbnail 변환본)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductDetailBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int imageCount;
+
+    private ObjectMapper objectMapper;
+    private Product product;
+    private List<ImageInfo> images;
+    private Map<Long, String> urls;
+    private Map<Long, Map<String, String>> variantUrls;
+    private ProductResponse<ImageResponse> response;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot 기본 ObjectMapper와 같은 설정 (JavaTimeModule 등록, 알 수 없는 속성 무시)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        product = Product.create("상품명", 10_000, "상품 설명 ".repeat(20));
+        DirectFieldAccessor accessor = new DirectFieldAccessor(product);
+        accessor.setPropertyValue("id", 1L);
+        accessor.setPropertyValue("createdAt", now);
+        accessor.setPropertyValue("updatedAt", now);
+
+        images = LongStream.rangeClosed(1, imageCount)
+                .mapToObj(id -> new ImageInfo(id, 1L, "product/", UUID.randomUUID() + ".jpg", now, now))
+                .toList();
+        urls = images.stream().collect(Collectors.toMap(ImageInfo::getId,
+                image -> signedUrl(image.getPath() + image.getName())));
+        variantUrls = images.stream().collect(Collectors.toMap(ImageInfo::getId,
+                image -> Map.of("thumbnail", signedUrl(image.getPath() + image.getName().replace(".jpg", "_thumbnail.webp")))));
+        response = mapResponse();
+    }
+
+    // 실제 서명 URL과 같은 길이/형식의 URL
+    private static String signedUrl(String key) {
+        return "https://bucket.s3.ap-northeast-2.amazonaws.com/" + key
+                + "?X-Amz-Algorithm=AWS4-HMAC-SHA256&X-Amz-Date=20250101T000000Z&X-Amz-SignedHeaders=host"
+                + "&X-Amz-Expires=3600&X-Amz-Credential=AKIAEXAMPLE%2F20250101%2Fap-northeast-2%2Fs3%2Faws4_request"
+                + "&X-Amz-Signature=" + "0".repeat(64);
+    }
+
+    @Benchmark
+    public ProductResponse<ImageResponse> mapResponse() {
+        return ProductResponse.of(
+                product,
+                images.stream()
+                        .map(image -> ImageResponse.of(image, urls.get(image.getId()), variantUrls.get(image.getId())))
+                        .toList()
+        );
+    }
+
+    @Benchmark
+    public CachedProductDetail serialize() throws Exception {
+        return new CachedProductDetail(objectMapper.writeValueAsBytes(response));
+    }
+}
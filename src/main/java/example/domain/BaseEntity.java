@@ -12,9 +12,11 @@ import java.time.LocalDateTime;
 @MappedSuperclass
 public class BaseEntity {
 
+    // 엔티티별 시퀀스({entity}_seq, MySQL은 테이블로 대체)에서 50개 단위로 ID를 미리 할당 (pooled)
+    // IDENTITY와 달리 insert 전에 ID를 알 수 있어 hibernate.jdbc.batch_size 설정으로 insert를 batch 처리
     @Comment("기본 키")
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @Comment("생성일자")
@@ -26,4 +28,9 @@ public class BaseEntity {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    // 컬럼 값 변경 여부와 관계없이 수정일자 갱신 (연관 데이터만 바뀐 경우에도 변경 시점을 남기기 위함)
+    protected void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
@@ -8,9 +8,24 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Comment;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        // 고아 이미지 조회 (product_id IS NULL AND created_at < ?) 용 인덱스
+        // InnoDB 보조 인덱스는 PK(id)를 포함하므로 (created_at, id) 키셋 조건과 정렬까지 인덱스만으로 처리
+        // 커버링 인덱스는 아님: path, name, stored_object_hash는 청크 행마다 PK 조회 (청크 크기만큼, 백그라운드 작업)
+        // 세 컬럼을 포함하면 인덱스 항목이 수 배 커져 모든 이미지 insert/상품 매핑 update 비용이 늘어나므로 제외
+        // 잠금 조회(lockUnlinkedImages)는 id IN 조건의 PK 조회이므로 인덱스 구성과 무관
+        @Index(name = "idx_image_product_id_created_at", columnList = "product_id, created_at")
+}, uniqueConstraints = {
+        // 직접 업로드 완료 선점용 (같은 업로드 ID로 이미지가 두 건 저장되지 않도록 보장, 그 외 업로드는 NULL)
+        // 중복 제거된 이미지는 저장 객체의 (path, name)을 공유하므로 (path, name)에는 유니크 제약을 둘 수 없음
+        @UniqueConstraint(name = "uk_image_upload_id", columnNames = "upload_id")
+})
 public class Image extends BaseEntity {
 
     @Comment("이미지 경로")
@@ -25,6 +40,19 @@ public class Image extends BaseEntity {
     @JoinColumn(name = "product_id", nullable = true)
     private Product product;
 
+    @Comment("직접 업로드 ID (presigned URL 업로드 완료 시에만 기록)")
+    @Column(name = "upload_id", nullable = true)
+    private String uploadId;
+
+    // 내용이 같은 업로드와 공유하는 저장 객체 (중복 제거 이전에 업로드된 이미지는 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "stored_object_hash", nullable = true)
+    private StoredObject storedObject;
+
+    // 업로드 시 생성한 크기별 변환본 (이미지 저장/삭제 시 함께 처리)
+    @OneToMany(mappedBy = "image", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<ImageVariant> variants = new ArrayList<>();
+
     public Image(String path, String imageName, Product product) {
         this.path = path;
         this.name = imageName;
@@ -36,8 +64,38 @@ public class Image extends BaseEntity {
         return new Image(path, imageName, null);
     }
 
+    // 직접 업로드 완료 이미지 생성 (이미지 명 = 업로드 ID, product = null)
+    public static Image createUploaded(String path, String uploadId) {
+        Image image = new Image(path, uploadId, null);
+        image.uploadId = uploadId;
+        return image;
+    }
+
     // 이미지 <-> 상품 매핑
     public void assignProduct(Product product) {
         this.product = product;
     }
+
+    // 저장 객체 연결 (이미지 키가 저장 객체 키와 같은 경우)
+    public void linkStoredObject(StoredObject storedObject) {
+        this.storedObject = storedObject;
+    }
+
+    // 같은 내용의 기존 저장 객체로 교체 (직접 업로드한 객체와 변환본은 호출 측에서 S3에서 제거, 변환본 행은 저장 객체의 변환본으로 다시 채움)
+    public void replaceStoredObject(StoredObject storedObject) {
+        this.path = storedObject.getPath();
+        this.name = storedObject.getName();
+        this.storedObject = storedObject;
+        this.variants.clear();
+    }
+
+    // 변환본 추가 (변환본 키는 원본 이미지 명을 기준으로 생성)
+    public void addVariant(String variant, String variantName, int width, int height) {
+        this.variants.add(new ImageVariant(this, variant, path, variantName, width, height));
+    }
+
+    // S3 객체 키 (path + name)
+    public String getKey() {
+        return path + name;
+    }
 }
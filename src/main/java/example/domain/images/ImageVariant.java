@@ -0,0 +1,56 @@
+package example.domain.images;
+
+import example.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        // 이미지별 변환본 조회/삭제용 인덱스 (image_id 선행 컬럼), 같은 변환본의 중복 기록 방지
+        @UniqueConstraint(name = "uk_image_variant_image_id_variant", columnNames = {"image_id", "variant"})
+})
+public class ImageVariant extends BaseEntity {
+
+    @Comment("변환본 종류 (thumbnail, medium, original 등)")
+    @Column(name = "variant", nullable = false, length = 50)
+    private String variant;
+
+    @Comment("변환본 경로")
+    @Column(name = "path", nullable = false)
+    private String path;
+
+    @Comment("변환본 명")
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Comment("가로 픽셀")
+    @Column(name = "width", nullable = false)
+    private int width;
+
+    @Comment("세로 픽셀")
+    @Column(name = "height", nullable = false)
+    private int height;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "image_id", nullable = false)
+    private Image image;
+
+    public ImageVariant(Image image, String variant, String path, String name, int width, int height) {
+        this.image = image;
+        this.variant = variant;
+        this.path = path;
+        this.name = name;
+        this.width = width;
+        this.height = height;
+    }
+
+    // S3 객체 키 (path + name)
+    public String getKey() {
+        return path + name;
+    }
+}
@@ -0,0 +1,48 @@
+package example.domain.images;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * [삭제 대기 저장소 객체]
+ * - DB에서 삭제한 이미지의 저장소 객체 키(원본, 변환본)를 이미지 삭제와 같은 트랜잭션에서 기록
+ * - 저장소 삭제는 커밋 이후에만 수행하고, 성공한 키는 행 삭제
+ * - 저장소 삭제에 실패했거나 커밋 후 삭제 전에 중단된 키는 남아 있다가 다음 정리 작업에서 재시도
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pending_object_deletion")
+public class PendingObjectDeletion implements Persistable<String> {
+
+    @Comment("저장소 객체 키")
+    @Id
+    @Column(name = "object_key")
+    private String objectKey;
+
+    @Comment("생성일자")
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public PendingObjectDeletion(String objectKey) {
+        this.objectKey = objectKey;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Override
+    public String getId() {
+        return objectKey;
+    }
+
+    // 키는 UUID 기반이라 다시 기록되지 않으므로 항상 새 행으로 저장 (merge 전 SELECT 없이 batch insert)
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+package example.domain.images;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * [저장 객체]
+ * - 내용 해시(SHA-256)가 같은 업로드는 하나의 S3 객체(원본 + 변환본)를 공유하고, 참조하는 이미지 수를 refCount로 관리
+ * - 행 생성/참조 증가/감소/삭제는 모두 StoredObjectRepository의 조건부 쿼리로 원자적으로 처리
+ * - refCount가 0이 된 객체는 더 이상 재사용되지 않으며, 고아 이미지 정리 시 S3 객체와 함께 삭제
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stored_object", indexes = {
+        // 참조가 없는 객체 조회 (정리 대상) 용 인덱스
+        @Index(name = "idx_stored_object_ref_count", columnList = "ref_count")
+})
+public class StoredObject {
+
+    @Comment("내용 해시 (SHA-256 hex)")
+    @Id
+    @Column(name = "hash", length = 64)
+    private String hash;
+
+    @Comment("객체 경로")
+    @Column(name = "path", nullable = false)
+    private String path;
+
+    @Comment("객체 명")
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Comment("참조 중인 이미지 수")
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Comment("생성일자")
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public boolean isReferenced() {
+        return refCount > 0;
+    }
+
+    // S3 객체 키 (path + name)
+    public String getKey() {
+        return path + name;
+    }
+
+    // 원본/변환본 S3 키 공통 접두사 (변환본은 {uuid}_{variant}.{ext})
+    public String getKeyPrefix() {
+        return path + name.substring(0, name.lastIndexOf("."));
+    }
+}
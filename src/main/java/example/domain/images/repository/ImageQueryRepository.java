@@ -1,15 +1,30 @@
 package example.domain.images.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import example.domain.images.Image;
+import example.domain.images.ImageVariant;
+import example.domain.images.QImageVariant;
+import example.domain.images.repository.dto.ImageInfo;
+import example.domain.images.repository.dto.ImageVariantKey;
+import example.domain.images.repository.dto.OrphanImage;
 import example.domain.products.Product;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static example.domain.images.QImage.image;
+import static example.domain.images.QImageVariant.imageVariant;
 
 @Repository
 @RequiredArgsConstructor
@@ -29,26 +44,227 @@ public class ImageQueryRepository {
     }
 
     /**
-     * [image <-> productId 매핑]
-     * - 요청받은 이미지 ID에 해당하는 이미지들의 `product` 필드를 주어진 `productId`로 업데이트
+     * [상품과 연결되지 않은 이미지만 매핑]
+     * - 요청받은 이미지 ID 중 product가 null 인 이미지만 주어진 productId로 업데이트 (이미 다른 상품에 매핑된 이미지는 유지)
+     * - 업데이트된 이미지 수 반환
      */
-    public void assignProduct(Long productId, List<Long> imageIds) {
-        jpaQueryFactory.update(image)
+    public long assignUnlinkedProduct(Long productId, List<Long> imageIds) {
+        return jpaQueryFactory.update(image)
                 .set(image.product.id, productId)
-                .where(image.id.in(imageIds))
+                .where(
+                        image.id.in(imageIds),
+                        image.product.isNull()
+                )
                 .execute();
     }
 
     /**
-     * [고아 이미지 조회]
+     * [이미지 존재 여부]
+     * - 요청받은 이미지 ID 중 하나라도 존재하는지 확인 (limit 1)
+     */
+    public boolean existsByIds(List<Long> imageIds) {
+        return jpaQueryFactory.selectOne()
+                .from(image)
+                .where(image.id.in(imageIds))
+                .fetchFirst() != null;
+    }
+
+    /**
+     * [상품의 이미지 조회]
+     * - productId에 매핑된 이미지를 ImageInfo 프로젝션으로 조회 (product 조인/지연 로딩 없음)
+     * - variants 이름의 변환본을 같은 쿼리에서 left join으로 함께 조회
+     */
+    public List<ImageInfo> findInfosByProductId(Long productId, Collection<String> variants) {
+        return fetchImageInfos(image.product.id.eq(productId), variants);
+    }
+
+    /**
+     * [여러 상품의 이미지 일괄 조회]
+     * - 요청받은 productId 목록에 매핑된 이미지를 단일 IN 쿼리로 조회 (상품별 그룹핑은 호출 측에서 메모리로 처리)
+     * - product_id 조건은 FK 컬럼으로 처리되어 product 테이블 조인 없이 idx_image_product_id_created_at 인덱스 사용
+     * - variants 이름의 변환본을 같은 쿼리에서 left join으로 함께 조회 (uk_image_variant_image_id_variant 사용)
+     */
+    public List<ImageInfo> findInfosByProductIds(Collection<Long> productIds, Collection<String> variants) {
+        return fetchImageInfos(image.product.id.in(productIds), variants);
+    }
+
+    // productId를 FK 컬럼 값으로 바로 읽는 응답용 프로젝션, 변환본 이름이 있으면 image_variant left join
+    // 이미지당 변환본 수만큼 행이 반환되므로 이미지 ID 순서를 유지하며 메모리에서 ImageInfo로 합침
+    private List<ImageInfo> fetchImageInfos(BooleanExpression condition, Collection<String> variants) {
+        if (variants.isEmpty()) {
+            return jpaQueryFactory.select(Projections.constructor(ImageInfo.class,
+                            image.id,
+                            image.product.id,
+                            image.path,
+                            image.name,
+                            image.createdAt,
+                            image.updatedAt
+                    ))
+                    .from(image)
+                    .where(condition)
+                    .orderBy(image.id.asc())
+                    .fetch();
+        }
+
+        List<Tuple> rows = jpaQueryFactory.select(
+                        image.id,
+                        image.product.id,
+                        image.path,
+                        image.name,
+                        image.createdAt,
+                        image.updatedAt,
+                        imageVariant.variant,
+                        imageVariant.path,
+                        imageVariant.name
+                )
+                .from(image)
+                .leftJoin(image.variants, imageVariant).on(imageVariant.variant.in(variants))
+                .where(condition)
+                .orderBy(image.id.asc())
+                .fetch();
+
+        Map<Long, Tuple> imageRows = new LinkedHashMap<>();
+        Map<Long, List<ImageVariantKey>> variantKeys = new HashMap<>();
+        for (Tuple row : rows) {
+            Long imageId = row.get(image.id);
+            imageRows.putIfAbsent(imageId, row);
+            if (row.get(imageVariant.variant) != null) {
+                variantKeys.computeIfAbsent(imageId, key -> new ArrayList<>()).add(new ImageVariantKey(
+                        imageId,
+                        row.get(imageVariant.variant),
+                        row.get(imageVariant.path),
+                        row.get(imageVariant.name)
+                ));
+            }
+        }
+        return imageRows.values().stream()
+                .map(row -> new ImageInfo(
+                        row.get(image.id),
+                        row.get(image.product.id),
+                        row.get(image.path),
+                        row.get(image.name),
+                        row.get(image.createdAt),
+                        row.get(image.updatedAt),
+                        variantKeys.getOrDefault(row.get(image.id), List.of())
+                ))
+                .toList();
+    }
+
+    /**
+     * [고아 이미지 청크 조회]
      * - productId가 null 인 이미지 중 createdAt이 주어진 기준(threshold)보다 오래된 것들만 조회
+     * - id, path, name, createdAt, storedObjectHash 만 조회하는 프로젝션 (엔티티, 연관관계 로딩 없음)
+     * - (createdAt, id) 키셋 페이지네이션, cursor 이후의 이미지를 최대 size개 조회 (cursor가 null이면 처음부터)
+     * - idx_image_product_id_created_at (product_id, created_at, [id]) 인덱스 순서와 정렬이 같아 filesort 없이 size개만 읽고 종료
+     * - 조건/정렬/파티션 필터는 인덱스만으로 처리, 조회 컬럼(path, name, stored_object_hash)은 반환하는 size개 행만 PK 조회
+     * - partitionCount > 1 이면 id % partitionCount == partition 인 이미지만 조회 (노드 간 분할 처리, id는 인덱스에 포함되어 인덱스에서 필터링)
      */
-    public List<Image> findOldUnlinkedImages(LocalDateTime threshold) {
-        return jpaQueryFactory.selectFrom(image)
+    public List<OrphanImage> findOldUnlinkedImages(LocalDateTime threshold, OrphanImage cursor, int size,
+                                                   int partition, int partitionCount) {
+        return jpaQueryFactory.select(Projections.constructor(OrphanImage.class,
+                        image.id,
+                        image.path,
+                        image.name,
+                        image.createdAt,
+                        image.storedObject.hash
+                ))
+                .from(image)
                 .where(
                         image.product.isNull(),
-                        image.createdAt.before(threshold)
+                        image.createdAt.before(threshold),
+                        afterCursor(cursor),
+                        inPartition(partition, partitionCount)
                 )
+                .orderBy(image.createdAt.asc(), image.id.asc())
+                .limit(size)
                 .fetch();
     }
+
+    private BooleanExpression inPartition(int partition, int partitionCount) {
+        if (partitionCount <= 1) return null;
+        return image.id.mod((long) partitionCount).eq((long) partition);
+    }
+
+    private BooleanExpression afterCursor(OrphanImage cursor) {
+        if (cursor == null) return null;
+        return image.createdAt.gt(cursor.getCreatedAt())
+                .or(image.createdAt.eq(cursor.getCreatedAt()).and(image.id.gt(cursor.getId())));
+    }
+
+    /**
+     * [변환본 키 조회]
+     * - 요청받은 이미지들의 변환본 S3 키를 단일 IN 쿼리로 조회 (uk_image_variant_image_id_variant 사용)
+     */
+    public List<ImageVariantKey> findVariantKeys(List<Long> imageIds) {
+        return jpaQueryFactory.select(Projections.constructor(ImageVariantKey.class,
+                        imageVariant.image.id,
+                        imageVariant.variant,
+                        imageVariant.path,
+                        imageVariant.name
+                ))
+                .from(imageVariant)
+                .where(imageVariant.image.id.in(imageIds))
+                .fetch();
+    }
+
+    /**
+     * [저장 객체 변환본 조회]
+     * - 같은 저장 객체(stored_object_hash)를 가리키는 이미지 중 변환본이 있는 첫 이미지의 변환본 조회
+     * - 중복 제거로 기존 저장 객체를 재사용하는 이미지에 같은 변환본 행을 복사하기 위해 사용
+     * - stored_object_hash FK 인덱스로 이미지를 찾고 uk_image_variant_image_id_variant로 변환본 조회
+     */
+    public List<ImageVariant> findVariantsByStoredObject(String hash) {
+        QImageVariant ownerVariant = new QImageVariant("ownerVariant");
+        return jpaQueryFactory.selectFrom(imageVariant)
+                .where(imageVariant.image.id.eq(
+                        JPAExpressions.select(ownerVariant.image.id.min())
+                                .from(ownerVariant)
+                                .where(ownerVariant.image.storedObject.hash.eq(hash))
+                ))
+                .orderBy(imageVariant.id.asc())
+                .fetch();
+    }
+
+    /**
+     * [변환본 일괄 삭제]
+     * - 요청받은 이미지들의 변환본을 단일 DELETE 쿼리로 삭제 (이미지 삭제 전 FK 정리)
+     */
+    public long deleteVariantsByImageIds(List<Long> imageIds) {
+        return jpaQueryFactory.delete(imageVariant)
+                .where(imageVariant.image.id.in(imageIds))
+                .execute();
+    }
+
+    /**
+     * [상품과 연결되지 않은 이미지 잠금 조회]
+     * - 요청받은 이미지 ID 중 여전히 상품과 연결되지 않은 이미지를 SELECT ... FOR UPDATE로 조회 (OrphanImage 프로젝션)
+     * - 트랜잭션이 끝날 때까지 상품 매핑을 막아, 삭제되는 이미지와 저장소 삭제 대기로 기록되는 키, 저장 객체 참조 감소 수를 일치시킴
+     */
+    public List<OrphanImage> lockUnlinkedImages(List<Long> imageIds) {
+        return jpaQueryFactory.select(Projections.constructor(OrphanImage.class,
+                        image.id,
+                        image.path,
+                        image.name,
+                        image.createdAt,
+                        image.storedObject.hash
+                ))
+                .from(image)
+                .where(
+                        image.id.in(imageIds),
+                        image.product.isNull()
+                )
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    /**
+     * [이미지 일괄 삭제]
+     * - 요청받은 이미지와 변환본을 DELETE 쿼리 두 번으로 삭제 (변환본 먼저 삭제)
+     */
+    public long deleteImagesWithVariants(List<Long> imageIds) {
+        deleteVariantsByImageIds(imageIds);
+        return jpaQueryFactory.delete(image)
+                .where(image.id.in(imageIds))
+                .execute();
+    }
 }
@@ -3,8 +3,5 @@ package example.domain.images.repository;
 import example.domain.images.Image;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
-
 public interface ImageRepository extends JpaRepository<Image, Long> {
-    List<Image> findByProductId(Long productId);
 }
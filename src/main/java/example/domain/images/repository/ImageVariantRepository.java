@@ -0,0 +1,12 @@
+package example.domain.images.repository;
+
+import example.domain.images.ImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, Long> {
+
+    // 이미지의 특정 변환본 조회 ((image_id, variant) 유니크)
+    Optional<ImageVariant> findByImageIdAndVariant(Long imageId, String variant);
+}
@@ -0,0 +1,25 @@
+package example.domain.images.repository;
+
+import example.domain.images.PendingObjectDeletion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PendingObjectDeletionRepository extends JpaRepository<PendingObjectDeletion, String> {
+
+    // 삭제 대기 키를 키 순으로 cursor 이후부터 조회 (재시도 대상)
+    @Query("select p.objectKey from PendingObjectDeletion p where p.objectKey > :cursor order by p.objectKey")
+    List<String> findKeysAfter(@Param("cursor") String cursor, Limit limit);
+
+    // 저장소 삭제에 성공한 키 제거
+    @Transactional
+    @Modifying
+    @Query("delete from PendingObjectDeletion p where p.objectKey in :keys")
+    int deleteByKeys(@Param("keys") Collection<String> keys);
+}
@@ -0,0 +1,42 @@
+package example.domain.images.repository;
+
+import example.domain.images.StoredObject;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface StoredObjectRepository extends JpaRepository<StoredObject, String> {
+
+    // 같은 해시의 객체가 없으면 참조 1로 생성, 생성 시 1 반환 (동시에 같은 내용이 업로드되면 한 건만 생성)
+    @Transactional
+    @Modifying
+    @Query(value = "insert ignore into stored_object (hash, path, name, ref_count, created_at) values (:hash, :path, :name, 1, now(6))", nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash, @Param("path") String path, @Param("name") String name);
+
+    // 참조 중인 객체만 참조 증가, 증가 시 1 반환 (참조가 0이 되어 삭제 대기 중인 객체는 되살리지 않음)
+    @Transactional
+    @Modifying
+    @Query("update StoredObject s set s.refCount = s.refCount + 1 where s.hash = :hash and s.refCount > 0")
+    int increment(@Param("hash") String hash);
+
+    // 참조 감소 (삭제된 이미지 수만큼)
+    @Transactional
+    @Modifying
+    @Query("update StoredObject s set s.refCount = s.refCount - :count where s.hash = :hash")
+    int decrement(@Param("hash") String hash, @Param("count") long count);
+
+    // 참조가 없는 객체를 해시 순으로 cursor 이후부터 조회 (정리 대상)
+    @Query("select s from StoredObject s where s.refCount <= 0 and s.hash > :cursor order by s.hash")
+    List<StoredObject> findUnreferenced(@Param("cursor") String cursor, Limit limit);
+
+    // 여전히 참조가 없는 객체만 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from StoredObject s where s.hash = :hash and s.refCount <= 0")
+    int deleteUnreferenced(@Param("hash") String hash);
+}
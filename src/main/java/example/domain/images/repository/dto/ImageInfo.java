@@ -0,0 +1,39 @@
+package example.domain.images.repository.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * [이미지 조회 프로젝션]
+ * - 응답에 필요한 컬럼만 조회, productId는 image.product_id FK 컬럼 값을 그대로 사용
+ * - 엔티티/프록시를 거치지 않아 product 지연 로딩, 영속성 컨텍스트 관리 비용 없음
+ * - 업로드 시 생성한 변환본 키는 같은 쿼리의 left join 결과로 채움 (변환본이 없으면 빈 리스트)
+ */
+@Getter
+public class ImageInfo {
+
+    private final Long id;
+    private final Long productId;
+    private final String path;
+    private final String name;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final List<ImageVariantKey> variants;
+
+    public ImageInfo(Long id, Long productId, String path, String name, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, productId, path, name, createdAt, updatedAt, List.of());
+    }
+
+    public ImageInfo(Long id, Long productId, String path, String name, LocalDateTime createdAt, LocalDateTime updatedAt,
+                     List<ImageVariantKey> variants) {
+        this.id = id;
+        this.productId = productId;
+        this.path = path;
+        this.name = name;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.variants = variants;
+    }
+}
@@ -0,0 +1,29 @@
+package example.domain.images.repository.dto;
+
+import lombok.Getter;
+
+/**
+ * [변환본 키 조회 프로젝션]
+ * - 고아 이미지 정리 시 이미지별 변환본 S3 키를 함께 삭제하기 위해 사용
+ * - 이미지 응답에 업로드 시 생성한 변환본(variant 이름별) 조회 URL을 포함하기 위해 사용
+ */
+@Getter
+public class ImageVariantKey {
+
+    private final Long imageId;
+    private final String variant;
+    private final String path;
+    private final String name;
+
+    public ImageVariantKey(Long imageId, String variant, String path, String name) {
+        this.imageId = imageId;
+        this.variant = variant;
+        this.path = path;
+        this.name = name;
+    }
+
+    // S3 객체 키 (path + name)
+    public String getKey() {
+        return path + name;
+    }
+}
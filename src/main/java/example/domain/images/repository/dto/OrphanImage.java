@@ -0,0 +1,34 @@
+package example.domain.images.repository.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * [고아 이미지 조회 프로젝션]
+ * - 정리에 필요한 컬럼만 조회 (엔티티, 연관관계 로딩 없음)
+ * - createdAt, id는 다음 청크 조회를 위한 키셋 커서로 사용
+ * - storedObjectHash가 있으면 S3 객체를 다른 이미지와 공유하므로 참조만 감소 (S3 객체는 마지막 참조가 사라질 때 삭제)
+ */
+@Getter
+public class OrphanImage {
+
+    private final Long id;
+    private final String path;
+    private final String name;
+    private final LocalDateTime createdAt;
+    private final String storedObjectHash;
+
+    public OrphanImage(Long id, String path, String name, LocalDateTime createdAt, String storedObjectHash) {
+        this.id = id;
+        this.path = path;
+        this.name = name;
+        this.createdAt = createdAt;
+        this.storedObjectHash = storedObjectHash;
+    }
+
+    // S3 객체 키 (path + name)
+    public String getKey() {
+        return path + name;
+    }
+}
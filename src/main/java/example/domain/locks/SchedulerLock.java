@@ -0,0 +1,35 @@
+package example.domain.locks;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * [스케줄러 잠금]
+ * - 여러 노드 중 하나만 작업을 수행하도록 하는 DB 기반 임대(lease)
+ * - 행 생성/획득/연장/해제는 모두 SchedulerLockRepository의 조건부 UPDATE로 원자적으로 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock {
+
+    @Comment("잠금 이름")
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Comment("잠금 보유자 (노드 + 획득 토큰)")
+    @Column(name = "owner", nullable = false)
+    private String owner;
+
+    @Comment("잠금 만료일자")
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
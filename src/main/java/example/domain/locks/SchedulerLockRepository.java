@@ -0,0 +1,35 @@
+package example.domain.locks;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 잠금 행이 없으면 만료된 상태로 생성
+    @Transactional
+    @Modifying
+    @Query(value = "insert ignore into scheduler_lock (name, owner, locked_until) values (:name, '', :now)", nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name, @Param("now") LocalDateTime now);
+
+    // 만료된 잠금만 획득, 획득 시 1 반환
+    @Transactional
+    @Modifying
+    @Query("update SchedulerLock l set l.owner = :owner, l.lockedUntil = :lockedUntil where l.name = :name and l.lockedUntil <= :now")
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // 보유 중인 잠금의 만료일자 변경 (연장/해제), 다른 노드가 가져간 경우 0 반환
+    @Transactional
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :lockedUntil where l.name = :name and l.owner = :owner")
+    int updateLockedUntil(@Param("name") String name,
+                          @Param("owner") String owner,
+                          @Param("lockedUntil") LocalDateTime lockedUntil);
+}
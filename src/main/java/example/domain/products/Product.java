@@ -3,6 +3,8 @@ package example.domain.products;
 import example.domain.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +13,10 @@ import org.hibernate.annotations.Comment;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        // 수정된 상품 조회 (노드 간 캐시 무효화 폴링) 용 인덱스
+        @Index(name = "idx_product_updated_at", columnList = "updated_at")
+})
 public class Product extends BaseEntity {
 
     @Comment("상품 명")
@@ -36,10 +42,11 @@ public class Product extends BaseEntity {
         return new Product(name, price, description);
     }
 
-    // 상품 업데이트
+    // 상품 업데이트 (이미지 매핑만 바뀌어도 수정일자 갱신, 노드 간 캐시 무효화 기준)
     public void update(String name, int price, String description) {
         this.name = name;
         this.price = price;
         this.description = description;
+        touch();
     }
 }
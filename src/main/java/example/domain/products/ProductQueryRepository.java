@@ -0,0 +1,35 @@
+package example.domain.products;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static example.domain.products.QProduct.product;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * [상품 목록 키셋 조회]
+     * - 최신 상품(id 내림차순) 순으로 cursor(이전 페이지의 마지막 id) 이후 상품을 최대 size개 조회 (cursor가 null이면 처음부터)
+     * - OFFSET 없이 PK 범위 조건으로 시작 위치를 찾아 뒤쪽 페이지도 앞쪽 페이지와 같은 비용으로 조회
+     */
+    public List<Product> findPage(Long cursor, int size) {
+        return jpaQueryFactory.selectFrom(product)
+                .where(beforeCursor(cursor))
+                .orderBy(product.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanExpression beforeCursor(Long cursor) {
+        if (cursor == null) return null;
+        return product.id.lt(cursor);
+    }
+}
@@ -1,6 +1,21 @@
 package example.domain.products;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    // 주어진 시각 이후 수정된 상품 ID, 수정일자 조회 (캐시 무효화용, idx_product_updated_at 사용)
+    @Query("select p.id as id, p.updatedAt as updatedAt from Product p where p.updatedAt > :since")
+    List<UpdatedProduct> findUpdatedSince(@Param("since") LocalDateTime since);
+
+    interface UpdatedProduct {
+        Long getId();
+
+        LocalDateTime getUpdatedAt();
+    }
 }
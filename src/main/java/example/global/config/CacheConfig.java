@@ -0,0 +1,41 @@
+package example.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String PRODUCT_DETAIL_CACHE = "productDetail";
+
+    @Value("${product.cache.maximum-size:10000}")
+    private long maximumSize;
+    @Value("${product.cache.ttl:10m}")
+    private Duration ttl;
+
+    /**
+     * 상품 상세 응답 캐시 (Caffeine, 노드 로컬, 값은 직렬화된 JSON 바이트 + ETag)
+     * - 최대 건수(maximum-size) 초과 시 사용 빈도가 낮은 항목부터 제거, 저장 후 ttl이 지나면 만료
+     * - recordStats: hit/miss/eviction 통계를 actuator 메트릭(cache.gets, cache.evictions 등)으로 노출
+     * - 트랜잭션 안에서의 put/evict는 커밋 이후에 적용 (커밋 전에 다른 요청이 이전 데이터를 다시 캐싱하는 것 방지)
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(PRODUCT_DETAIL_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
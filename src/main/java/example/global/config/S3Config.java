@@ -1,12 +1,31 @@
 package example.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class S3Config {
@@ -17,13 +36,131 @@ public class S3Config {
     private String secretKey;
     @Value("${aws.region}")
     private String region;
+    @Value("${aws.s3.multipart.upload-threads:16}")
+    private int uploadThreads;
+    @Value("${aws.s3.multipart.threshold:16MB}")
+    private DataSize multipartThreshold;
+    @Value("${aws.s3.multipart.part-size:8MB}")
+    private DataSize multipartPartSize;
+    @Value("${aws.s3.async.max-concurrency:200}")
+    private int asyncMaxConcurrency;
+    @Value("${aws.s3.async.max-pending-acquires:1000}")
+    private int asyncMaxPendingAcquires;
+    @Value("${aws.s3.async.acquisition-timeout:10s}")
+    private Duration asyncAcquisitionTimeout;
+    @Value("${aws.s3.async.executor-threads:16}")
+    private int asyncExecutorThreads;
+    @Value("${image.cache-load.threads:32}")
+    private int cacheLoadThreads;
+    @Value("${image.cache-load.queue-capacity:256}")
+    private int cacheLoadQueueCapacity;
 
     @Bean
-    public S3Client s3Client() {
-        AwsBasicCredentials awsBasicCredentials = AwsBasicCredentials.create(accessKey, secretKey);
+    public S3Client s3Client(S3MetricsInterceptor s3MetricsInterceptor) {
         return S3Client.builder()
-                .credentialsProvider(StaticCredentialsProvider.create(awsBasicCredentials))
+                .credentialsProvider(credentialsProvider())
                 .region(Region.of(region))
+                .overrideConfiguration(config -> config.addExecutionInterceptor(s3MetricsInterceptor))
                 .build();
     }
+
+    /**
+     * S3 요청 시간/오류 메트릭 (동기/비동기 클라이언트 공용)
+     */
+    @Bean
+    public S3MetricsInterceptor s3MetricsInterceptor(MeterRegistry meterRegistry) {
+        return new S3MetricsInterceptor(meterRegistry);
+    }
+
+    /**
+     * presigned URL 서명 (클라이언트가 서버를 거치지 않고 S3에 직접 업로드)
+     * - 서명은 로컬 계산이며 S3 요청을 보내지 않음
+     */
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .credentialsProvider(credentialsProvider())
+                .region(Region.of(region))
+                .build();
+    }
+
+    /**
+     * 비동기 S3 클라이언트
+     * - Netty 커넥션 풀: 동시 커넥션 수(max-concurrency)와 커넥션 대기 요청 수(max-pending-acquires)를 제한
+     * - 멀티파트 설정은 동기 업로드(aws.s3.multipart.*)와 동일한 threshold, part-size 사용
+     */
+    @Bean
+    public S3AsyncClient s3AsyncClient(S3MetricsInterceptor s3MetricsInterceptor) {
+        return S3AsyncClient.builder()
+                .credentialsProvider(credentialsProvider())
+                .region(Region.of(region))
+                .overrideConfiguration(config -> config.addExecutionInterceptor(s3MetricsInterceptor))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(asyncMaxConcurrency)
+                        .maxPendingConnectionAcquires(asyncMaxPendingAcquires)
+                        .connectionAcquisitionTimeout(asyncAcquisitionTimeout)
+                        .connectionMaxIdleTime(Duration.ofSeconds(60))
+                        .tcpKeepAlive(true))
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThreshold.toBytes())
+                        .minimumPartSizeInBytes(multipartPartSize.toBytes())
+                        .build())
+                .build();
+    }
+
+    /**
+     * 비동기 S3 작업 전용 실행기
+     * - 요청 본문(InputStream) 읽기, S3 응답 이후 DB 저장 등 Netty 이벤트 루프에서 실행하면 안 되는 블로킹 작업 처리
+     * - 가상 스레드 모드(spring.threads.virtual.enabled)에서는 작업마다 가상 스레드 생성
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService s3AsyncExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("s3-async-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(asyncExecutorThreads, Thread.ofPlatform().name("s3-async-", 0).factory());
+    }
+
+    /**
+     * 이미지 캐시 로딩 전용 실행기 (변환본 캐시, 본문 디스크 캐시)
+     * - 캐시 미스 시의 S3 GET, 변환본 생성 대기 같은 블로킹 작업을 s3AsyncExecutor(업로드 본문 읽기, 다건 업로드, 비동기 업로드 완료 처리)와 분리
+     * - 스레드 수와 대기열을 모두 제한하여 조회 폭주가 업로드 스레드를 점유하거나 작업이 무한히 쌓이지 않도록 함, 대기열이 가득 차면 503
+     * - 제한이 목적이므로 가상 스레드 모드에서도 고정 스레드 풀 사용
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService imageCacheLoadExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(cacheLoadThreads, cacheLoadThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(cacheLoadQueueCapacity),
+                Thread.ofPlatform().name("image-cache-load-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "image.cache-load");
+    }
+
+    /**
+     * 멀티파트 파트 전송 전용 실행기
+     * - 대기 작업 수는 파트 버퍼 풀(aws.s3.multipart.buffer-pool-size)이 제한하므로 큐는 별도로 제한하지 않음
+     * - 가상 스레드 모드에서는 스레드 풀 대신 파트마다 가상 스레드 생성
+     */
+    @Bean
+    public Executor s3UploadExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("s3-upload-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadThreads);
+        executor.setMaxPoolSize(uploadThreads);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    private StaticCredentialsProvider credentialsProvider() {
+        AwsBasicCredentials awsBasicCredentials = AwsBasicCredentials.create(accessKey, secretKey);
+        return StaticCredentialsProvider.create(awsBasicCredentials);
+    }
 }
@@ -0,0 +1,74 @@
+package example.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [S3 요청 메트릭]
+ * - SDK 실행 단위(재시도 포함)로 S3 요청 시간을 operation(PutObject, UploadPart 등), outcome(success | error) 태그로 기록 (s3.requests)
+ * - 실패는 operation, error(S3 오류 코드 또는 클라이언트 예외 이름) 태그로 따로 집계 (s3.errors)
+ * - 동기/비동기 클라이언트에 같은 인스턴스를 등록하므로 상태는 실행 속성(ExecutionAttributes)에만 보관
+ */
+public class S3MetricsInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Long> STARTED_AT = new ExecutionAttribute<>("S3MetricsStartedAt");
+
+    private final MeterRegistry meterRegistry;
+
+    public S3MetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes, "success");
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes, "error");
+
+        Throwable exception = context.exception();
+        String error = exception instanceof AwsServiceException serviceException && serviceException.awsErrorDetails() != null
+                ? serviceException.awsErrorDetails().errorCode()
+                : exception.getClass().getSimpleName();
+        Counter.builder("s3.errors")
+                .description("실패한 S3 요청 수")
+                .tag("operation", getOperation(executionAttributes))
+                .tag("error", error != null ? error : "unknown")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void record(ExecutionAttributes executionAttributes, String outcome) {
+        Long startedAt = executionAttributes.getAttribute(STARTED_AT);
+        if (startedAt == null) return;
+
+        Timer.builder("s3.requests")
+                .description("S3 요청 시간 (재시도 포함)")
+                .tag("operation", getOperation(executionAttributes))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private String getOperation(ExecutionAttributes executionAttributes) {
+        String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        return operation != null ? operation : "unknown";
+    }
+}
@@ -12,10 +12,28 @@ public enum ErrorCode {
     NOT_EXIST_FILE_EXTENSION(HttpStatus.BAD_REQUEST, "파일 확장자가 존재하지 않습니다."),
     NOT_EXIST_FILE(HttpStatus.BAD_REQUEST, "파일이 존재하지 않습니다."),
     INVALID_FILE_EXTENSION(HttpStatus.BAD_REQUEST, "허용되지 않는 파일 확장자입니다."),
+    INVALID_FILE_CONTENT(HttpStatus.BAD_REQUEST, "이미지 파일이 아니거나 손상된 파일입니다."),
+    FILE_EXTENSION_MISMATCH(HttpStatus.BAD_REQUEST, "파일 내용이 확장자와 일치하지 않습니다."),
+    EXCEED_IMAGE_PIXELS(HttpStatus.PAYLOAD_TOO_LARGE, "허용된 이미지 해상도를 초과했습니다."),
+    EXCEED_FILE_SIZE(HttpStatus.PAYLOAD_TOO_LARGE, "허용된 파일 크기를 초과했습니다."),
+    NOT_FOUND_UPLOAD(HttpStatus.NOT_FOUND, "업로드된 파일이 존재하지 않습니다. 업로드 완료 후 다시 시도해 주세요."),
+    INVALID_UPLOAD_ID(HttpStatus.BAD_REQUEST, "잘못된 업로드 ID입니다."),
+    EXCEED_FILE_COUNT(HttpStatus.BAD_REQUEST, "한 번에 업로드할 수 있는 파일 수를 초과했습니다."),
+    TOO_MANY_UPLOADS(HttpStatus.SERVICE_UNAVAILABLE, "업로드 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    TOO_MANY_IMAGE_PROCESSING(HttpStatus.SERVICE_UNAVAILABLE, "이미지 처리 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    TOO_MANY_IMAGE_LOADS(HttpStatus.SERVICE_UNAVAILABLE, "이미지 조회 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    IO_EXCEPTION_READ_FILE(HttpStatus.INTERNAL_SERVER_ERROR, "파일 조회 중 문제가 발생했습니다. 다시 시도해 주세요."),
+    UNSUPPORTED_UPLOAD_METHOD(HttpStatus.NOT_IMPLEMENTED, "현재 저장소에서 지원하지 않는 업로드 방식입니다."),
     IO_EXCEPTION_DELETE_FILE(HttpStatus.INTERNAL_SERVER_ERROR, "파일 삭제 중 문제가 발생했습니다. 다시 시도해 주세요."),
     INVALID_URL_FORMAT(HttpStatus.BAD_REQUEST, "잘못된 URL 형식입니다."),
     IMAGE_ID_MISSING(HttpStatus.BAD_REQUEST, "요청한 이미지가 존재하지 않습니다."),
-    NOT_FOUND_PRODUCT(HttpStatus.NOT_FOUND, "상품이 존재하지 않습니다.");
+    IMAGE_NOT_ASSIGNABLE(HttpStatus.CONFLICT, "존재하지 않거나 다른 상품에 연결된 이미지가 포함되어 있습니다."),
+    NOT_FOUND_IMAGE(HttpStatus.NOT_FOUND, "이미지가 존재하지 않습니다."),
+    INVALID_VARIANT_REQUEST(HttpStatus.BAD_REQUEST, "지원하지 않는 변환본 크기 또는 형식입니다."),
+    UNSUPPORTED_IMAGE(HttpStatus.UNPROCESSABLE_ENTITY, "변환할 수 없는 이미지입니다."),
+    NOT_FOUND_PRODUCT(HttpStatus.NOT_FOUND, "상품이 존재하지 않습니다."),
+    EXCEED_PRODUCT_COUNT(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 상품 수를 초과했습니다."),
+    NOT_FOUND_CLEANUP_JOB(HttpStatus.NOT_FOUND, "정리 작업이 존재하지 않습니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -1,17 +1,32 @@
 package example.global.exception;
 
 import example.global.exception.dto.CustomExceptionResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    @Value("${api.retry-after:5s}")
+    private Duration retryAfter;
+
     @ExceptionHandler(CustomApplicationException.class)
     public ResponseEntity<CustomExceptionResponse> responseTodoApplicationException(CustomApplicationException exception) {
         CustomExceptionResponse errorResult = new CustomExceptionResponse(
                 exception.getExceptionHttpStatus(), exception.getExceptionMessage());
+
+        // 포화로 거절된 요청(503)은 재시도 시점 안내
+        if (exception.getExceptionHttpStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+            return ResponseEntity.status(exception.getExceptionHttpStatus())
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter.toSeconds()))
+                    .body(errorResult);
+        }
         return new ResponseEntity<>(errorResult, exception.getExceptionHttpStatus());
     }
 }
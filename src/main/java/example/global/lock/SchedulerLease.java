@@ -0,0 +1,35 @@
+package example.global.lock;
+
+import example.domain.locks.SchedulerLockRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * [획득한 잠금]
+ * - 작업이 leaseTime보다 오래 걸리면 중간에 extend()로 연장, 작업 종료 시 release()
+ */
+public class SchedulerLease {
+
+    private final String name;
+    private final String owner;
+    private final Duration leaseTime;
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    SchedulerLease(String name, String owner, Duration leaseTime, SchedulerLockRepository schedulerLockRepository) {
+        this.name = name;
+        this.owner = owner;
+        this.leaseTime = leaseTime;
+        this.schedulerLockRepository = schedulerLockRepository;
+    }
+
+    // 잠금 연장, 이미 만료되어 다른 노드가 가져갔다면 false (작업 중단 필요)
+    public boolean extend() {
+        return schedulerLockRepository.updateLockedUntil(name, owner, LocalDateTime.now().plus(leaseTime)) == 1;
+    }
+
+    // 잠금 해제 (만료일자를 현재로 당겨 다른 노드가 바로 획득 가능)
+    public void release() {
+        schedulerLockRepository.updateLockedUntil(name, owner, LocalDateTime.now());
+    }
+}
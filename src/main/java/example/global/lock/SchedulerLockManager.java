@@ -0,0 +1,42 @@
+package example.global.lock;
+
+import example.domain.locks.SchedulerLockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * [DB 기반 분산 잠금]
+ * - 외부 코디네이션 서비스 없이 scheduler_lock 테이블의 조건부 UPDATE로 노드 간 상호 배제
+ * - 잠금은 만료 시간이 있는 임대(lease)이므로 보유 노드가 죽어도 leaseTime 후 다른 노드가 획득 가능
+ * - 노드 간 시계 차이는 leaseTime보다 충분히 작아야 함
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerLockManager {
+
+    private static final String INSTANCE_ID = ManagementFactory.getRuntimeMXBean().getName(); // pid@host
+
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    /**
+     * [public 메서드]
+     * - 잠금 획득 시도, 다른 노드(또는 같은 노드의 다른 실행)가 보유 중이면 대기하지 않고 empty 반환
+     * - 획득마다 새 토큰을 발급하므로 같은 노드에서도 재진입되지 않음
+     */
+    public Optional<SchedulerLease> tryAcquire(String name, Duration leaseTime) {
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLockRepository.insertIfAbsent(name, now);
+
+        String owner = INSTANCE_ID + ":" + UUID.randomUUID();
+        if (schedulerLockRepository.acquire(name, owner, now, now.plus(leaseTime)) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new SchedulerLease(name, owner, leaseTime, schedulerLockRepository));
+    }
+}
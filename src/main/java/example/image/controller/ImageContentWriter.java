@@ -0,0 +1,144 @@
+package example.image.controller;
+
+import example.domain.images.Image;
+import example.image.service.ImageContentCache;
+import example.image.service.ImageContentCache.CachedFile;
+import example.image.service.ImageFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * [이미지 본문 응답]
+ * - 디스크 캐시 파일을 조건부 요청(If-None-Match, If-Modified-Since)과 Range 요청(단일 구간, If-Range)에 맞춰 응답
+ * - Tomcat이 sendfile을 지원하면 파일 경로만 넘겨 커널 sendfile로 전송 (본문이 JVM 힙을 거치지 않음)
+ *   지원하지 않으면 FileChannel.transferTo로 응답 스트림에 전송
+ * - 응답 중에는 캐시 파일의 참조를 보유하여 제거되어도 삭제되지 않도록 함 (sendfile은 Tomcat이 파일을 연 뒤 해제)
+ * - 키(UUID)가 가리키는 내용은 바뀌지 않으므로 ETag는 키로 만들고 장기 캐시(immutable) 허용
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageContentWriter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageContentCache imageContentCache;
+
+    /**
+     * [public 메서드]
+     * - 이미지 본문 응답 (200, 206, 304, 416)
+     */
+    public void write(Image image, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // [Step 1] 조건부 요청 확인, 변경되지 않았으면 본문 없이 304 (ETag, Last-Modified 헤더는 응답에 함께 기록됨)
+        String eTag = "\"" + DigestUtils.md5DigestAsHex(image.getKey().getBytes(StandardCharsets.UTF_8)) + "\"";
+        long lastModified = image.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (new ServletWebRequest(request, response).checkNotModified(eTag, lastModified)) return;
+
+        // [Step 2] 디스크 캐시에서 파일 조회 (미스면 저장소에서 한 번만 받아 저장), 응답이 끝날 때까지 파일 삭제를 막도록 참조 획득
+        // sendfile로 넘긴 경우 Tomcat이 파일을 연 뒤에 해제되도록 지연 해제
+        CachedFile file = imageContentCache.acquire(image.getKey());
+        boolean sendfile = false;
+        try {
+            sendfile = writeContent(file, eTag, image, request, response);
+        } finally {
+            if (sendfile) imageContentCache.releaseLater(file);
+            else file.release();
+        }
+    }
+
+    /**
+     * [private 메서드]
+     * - Range 해석, 응답 헤더 기록, 본문 전송, sendfile로 넘겼으면 true 반환
+     */
+    private boolean writeContent(CachedFile file, String eTag, Image image,
+                                 HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long length = file.size();
+        long start = 0;
+        long end = length - 1;
+
+        // [Step 1] Range 요청 해석 (단일 구간만 부분 응답, 여러 구간이거나 If-Range가 ETag와 다르면 전체 응답)
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(eTag))) {
+            List<HttpRange> ranges = parseRanges(rangeHeader);
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+                if (start >= length || start > end) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return false;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        // [Step 2] 응답 헤더
+        long count = end - start + 1;
+        response.setContentType(getContentType(image.getName()));
+        response.setContentLengthLong(count);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue());
+        if (HttpMethod.HEAD.matches(request.getMethod())) return false;
+
+        // [Step 3] 본문 전송 (sendfile 지원 시 Tomcat이 응답 후 파일을 직접 전송)
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return true;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) break;
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+        return false;
+    }
+
+    // 잘못된 Range 헤더는 무시하고 전체 응답
+    private List<HttpRange> parseRanges(String rangeHeader) {
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException exception) {
+            return List.of();
+        }
+    }
+
+    private String getContentType(String imageName) {
+        return ImageFormat.fromExtension(imageName.substring(imageName.lastIndexOf(".") + 1))
+                .map(ImageFormat::getContentType)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+}
@@ -2,36 +2,153 @@ package example.image.controller;
 
 import example.domain.images.Image;
 import example.domain.images.ImageType;
+import example.image.controller.dto.CleanupJobResponse;
 import example.image.controller.dto.ImageResponse;
+import example.image.controller.dto.PresignRequest;
+import example.image.controller.dto.PresignResponse;
 import example.image.service.ImageScheduler;
 import example.image.service.ImageService;
+import example.image.service.ImageVariantGenerator.EncodedVariant;
+import example.image.service.ImageUrlSigner;
+import example.image.service.ImageVariantResolver;
+import example.image.service.OrphanCleanupJob;
+import example.image.service.OrphanCleanupJobManager;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/image")
 public class ImageController {
 
     private final ImageService imageService;
+    private final ImageVariantResolver imageVariantResolver;
+    private final ImageContentWriter imageContentWriter;
+    private final ImageUrlSigner imageUrlSigner;
     private final ImageScheduler imageScheduler;
+    private final OrphanCleanupJobManager orphanCleanupJobManager;
+
+    // S3 업로드가 끝날 때까지 요청 스레드를 점유하지 않고 비동기로 응답
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public CompletableFuture<ImageResponse> uploadImage(@RequestPart MultipartFile imageFile,
+                                                        @RequestParam("type") ImageType imageType
+    ) {
+        return imageService.uploadAsync(imageFile, imageType)
+                .thenApply(this::toResponse);
+    }
+
+    // 다건 업로드 (응답은 요청 파트 순서와 동일)
+    @PostMapping(value = "/upload/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public List<ImageResponse> uploadImages(@RequestPart List<MultipartFile> imageFiles,
+                                            @RequestParam("type") ImageType imageType
+    ) {
+        return imageService.uploadAll(imageFiles, imageType).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    // 스트리밍 업로드 (요청 본문 = 이미지 바이너리, 임시 파일 없이 S3로 바로 전송)
+    @PostMapping(value = "/upload", consumes = {
+            MediaType.IMAGE_JPEG_VALUE,
+            MediaType.IMAGE_PNG_VALUE,
+            MediaType.IMAGE_GIF_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE
+    })
+    public ImageResponse uploadImageStream(InputStream imageStream,
+                                           @RequestParam("fileName") String fileName,
+                                           @RequestParam("type") ImageType imageType
+    ) {
+        Image image = imageService.uploadStream(imageStream, fileName, imageType);
+        return toResponse(image);
+    }
+
+    // 직접 업로드용 presigned URL 발급 (이미지 바이트가 서버를 거치지 않음, 큰 파일은 이 경로 사용)
+    @PostMapping("/presign")
+    public PresignResponse presignUpload(@RequestBody PresignRequest presignRequest,
+                                         @RequestParam("type") ImageType imageType
+    ) {
+        return imageService.presignUpload(presignRequest.getFileName(), presignRequest.getContentLength(), imageType);
+    }
 
-    @PostMapping("/upload")
-    public ImageResponse uploadImage(@RequestPart MultipartFile imageFile,
-                                     @RequestParam("type") ImageType imageType
+    // 직접 업로드 완료 확인 후 이미지 저장 (presigned URL로 S3 업로드가 끝난 뒤 호출)
+    @PostMapping("/{uploadId}/complete")
+    public ImageResponse completeUpload(@PathVariable String uploadId,
+                                        @RequestParam("type") ImageType imageType
     ) {
-        Image image = imageService.upload(imageFile, imageType);
-        return ImageResponse.of(image);
+        Image image = imageService.completeUpload(uploadId, imageType);
+        return toResponse(image);
     }
 
+    // 이미지 본문 응답 (노드 로컬 디스크 캐시, Range/조건부 요청 지원), S3 URL을 직접 조회하는 대신 사용
+    @GetMapping("/{imageId}/content")
+    public void getContent(@PathVariable Long imageId,
+                           HttpServletRequest request,
+                           HttpServletResponse response
+    ) throws IOException {
+        imageContentWriter.write(imageService.findImage(imageId), request, response);
+    }
+
+    // 요청 크기(w x h 영역 안, 0이면 제한 없음, allowed-sizes만 허용)/형식의 변환본 응답, 처음 요청 시 원본으로 생성하여 S3에 저장
+    // name 지정 시 업로드 시 생성한 변환본(image.variant.sizes) 응답 (w, h, format 무시)
+    // 같은 요청의 응답은 바뀌지 않으므로 장기 캐시 허용
+    @GetMapping("/{imageId}/variant")
+    public ResponseEntity<byte[]> getVariant(@PathVariable Long imageId,
+                                             @RequestParam(value = "w", defaultValue = "0") int width,
+                                             @RequestParam(value = "h", defaultValue = "0") int height,
+                                             @RequestParam(defaultValue = "jpeg") String format,
+                                             @RequestParam(required = false) String name
+    ) {
+        EncodedVariant variant = name != null
+                ? imageVariantResolver.resolveNamed(imageId, name)
+                : imageVariantResolver.resolve(imageId, width, height, format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(variant.contentType()))
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .body(variant.data());
+    }
+
+    // 고아 이미지 정리 작업 시작 (기존 수동 실행 API, 작업 완료를 기다리지 않고 작업 정보 응답)
     @DeleteMapping("/delete")
-    public String deleteImage() {
-        try {
-            imageScheduler.deleteOrphanImages(); // 스케줄러 메서드를 수동 호출
-            return "고아 이미지 삭제 작업이 완료되었습니다.";
-        } catch (Exception e) {
-            return "고아 이미지 삭제 작업에 실패했습니다: " + e.getMessage();
-        }
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CleanupJobResponse deleteImage() {
+        return startCleanupJob();
+    }
+
+    // 고아 이미지 정리 작업 시작, 실행 중인 작업이 있으면 해당 작업 응답
+    @PostMapping("/cleanup-jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CleanupJobResponse startCleanupJob() {
+        OrphanCleanupJob job = orphanCleanupJobManager.submit(imageScheduler.orphanThreshold());
+        return CleanupJobResponse.of(job);
+    }
+
+    // 고아 이미지 정리 작업 진행 상황 조회
+    @GetMapping("/cleanup-jobs/{jobId}")
+    public CleanupJobResponse getCleanupJob(@PathVariable String jobId) {
+        return CleanupJobResponse.of(orphanCleanupJobManager.find(jobId));
+    }
+
+    // 고아 이미지 정리 작업 취소 (진행 중인 청크까지 처리 후 중단)
+    @PostMapping("/cleanup-jobs/{jobId}/cancel")
+    public CleanupJobResponse cancelCleanupJob(@PathVariable String jobId) {
+        return CleanupJobResponse.of(orphanCleanupJobManager.cancel(jobId));
+    }
+
+    // 응답 URL은 서명 URL (유효 기간 동안 같은 URL 재사용), 업로드 시 생성한 변환본 URL 포함
+    private ImageResponse toResponse(Image image) {
+        return ImageResponse.of(image, imageUrlSigner.getUrl(image), imageUrlSigner.getVariantUrls(image));
     }
 }
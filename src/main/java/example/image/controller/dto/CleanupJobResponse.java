@@ -0,0 +1,64 @@
+package example.image.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import example.image.service.OrphanCleanupJob;
+import example.image.service.OrphanCleanupJobStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CleanupJobResponse {
+
+    private String jobId;
+    private OrphanCleanupJobStatus status;
+    private long scanned;
+    private long s3Deleted;
+    private long dbDeleted;
+    private long failed;
+    private double throughput; // 초당 DB 삭제 건수
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime finishedAt;
+
+    public CleanupJobResponse(String jobId,
+                              OrphanCleanupJobStatus status,
+                              long scanned,
+                              long s3Deleted,
+                              long dbDeleted,
+                              long failed,
+                              double throughput,
+                              LocalDateTime startedAt,
+                              LocalDateTime finishedAt
+    ) {
+        this.jobId = jobId;
+        this.status = status;
+        this.scanned = scanned;
+        this.s3Deleted = s3Deleted;
+        this.dbDeleted = dbDeleted;
+        this.failed = failed;
+        this.throughput = throughput;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    public static CleanupJobResponse of(OrphanCleanupJob job) {
+        return new CleanupJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getScanned(),
+                job.getS3Deleted(),
+                job.getDbDeleted(),
+                job.getFailed(),
+                job.getThroughput(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -2,11 +2,13 @@ package example.image.controller.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import example.domain.images.Image;
+import example.domain.images.repository.dto.ImageInfo;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -16,6 +18,8 @@ public class ImageResponse {
     private Long productId;
     private String path;
     private String name;
+    private String url; // 조회 URL (서명 URL 또는 /api/image/{id}/content)
+    private Map<String, String> variants; // 업로드 시 생성한 변환본 이름 -> 조회 URL (서명 URL 또는 /api/image/{id}/variant?name=)
 
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
@@ -27,6 +31,8 @@ public class ImageResponse {
                          Long productId,
                          String path,
                          String name,
+                         String url,
+                         Map<String, String> variants,
                          LocalDateTime createdAt,
                          LocalDateTime updatedAt
     ) {
@@ -34,16 +40,34 @@ public class ImageResponse {
         this.productId = productId;
         this.path = path;
         this.name = name;
+        this.url = url;
+        this.variants = variants;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
 
-    public static ImageResponse of(Image image) {
+    // 상품 조회 응답용 (프로젝션의 productId 컬럼 사용, 지연 로딩 없음)
+    public static ImageResponse of(ImageInfo imageInfo, String url, Map<String, String> variants) {
+        return new ImageResponse(
+                imageInfo.getId(),
+                imageInfo.getProductId(),
+                imageInfo.getPath(),
+                imageInfo.getName(),
+                url,
+                variants,
+                imageInfo.getCreatedAt(),
+                imageInfo.getUpdatedAt()
+        );
+    }
+
+    public static ImageResponse of(Image image, String url, Map<String, String> variants) {
         return new ImageResponse(
                 image.getId(),
                 image.getProduct() != null ? image.getProduct().getId() : null,
                 image.getPath(),
                 image.getName(),
+                url,
+                variants,
                 image.getCreatedAt(),
                 image.getUpdatedAt()
         );
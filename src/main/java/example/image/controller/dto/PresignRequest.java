@@ -0,0 +1,18 @@
+package example.image.controller.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PresignRequest {
+
+    private String fileName;
+    private long contentLength;
+
+    public PresignRequest(String fileName, long contentLength) {
+        this.fileName = fileName;
+        this.contentLength = contentLength;
+    }
+}
@@ -0,0 +1,35 @@
+package example.image.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PresignResponse {
+
+    private String uploadId; // 업로드 완료 요청(POST /api/image/{uploadId}/complete)에 사용
+    private String method;
+    private String url;
+    private Map<String, String> headers; // 업로드 요청에 그대로 포함해야 하는 헤더 (서명에 포함됨)
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime expiresAt;
+
+    public PresignResponse(String uploadId,
+                           String method,
+                           String url,
+                           Map<String, String> headers,
+                           LocalDateTime expiresAt
+    ) {
+        this.uploadId = uploadId;
+        this.method = method;
+        this.url = url;
+        this.headers = headers;
+        this.expiresAt = expiresAt;
+    }
+}
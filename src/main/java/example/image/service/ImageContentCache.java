@@ -0,0 +1,204 @@
+package example.image.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+import example.image.storage.ImageStorage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [이미지 본문 디스크 캐시]
+ * - 조회된 원본 이미지를 노드 로컬 디스크에 보관, 전체 크기(max-size) 기준으로 Caffeine W-TinyLFU(LRU + LFU) 정책에 따라 제거
+ * - 같은 키의 동시 미스는 저장소 조회 한 번으로 합쳐짐 (AsyncCache, 실패한 조회는 캐시에 남지 않음)
+ * - 키는 UUID 기반이라 내용이 바뀌지 않으므로 무효화 없이 제거 정책만 사용
+ * - 인덱스는 메모리에만 있으므로 시작 시 디렉터리를 비움
+ * - 파일은 참조 수로 관리: 캐시가 1개, 응답 중인 요청이 각각 1개를 보유하고 마지막 참조가 해제될 때 삭제
+   (응답 중에 제거된 항목의 파일은 응답이 끝난 뒤 삭제되므로, 그 동안은 디스크 사용량이 max-size를 잠시 넘을 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageContentCache {
+
+    private static final long TRANSFER_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private final ImageStorage imageStorage;
+
+    @Qualifier("imageCacheLoadExecutor")
+    private final ExecutorService imageCacheLoadExecutor;
+
+    @Qualifier("s3AsyncExecutor")
+    private final ExecutorService s3AsyncExecutor;
+
+    @Value("${image.content-cache.directory:${java.io.tmpdir}/image-content-cache}")
+    private String directory;
+
+    @Value("${image.content-cache.max-size:1GB}")
+    private DataSize maxSize;
+
+    @Value("${image.content-cache.sendfile-release-delay:30s}")
+    private Duration sendfileReleaseDelay;
+
+    private Path directoryPath;
+    private AsyncCache<String, CachedFile> contentCache;
+
+    @PostConstruct
+    void initContentCache() throws IOException {
+        directoryPath = Paths.get(directory).toAbsolutePath().normalize();
+        FileSystemUtils.deleteRecursively(directoryPath);
+        Files.createDirectories(directoryPath);
+
+        contentCache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, CachedFile file) -> (int) Math.min(file.size(), Integer.MAX_VALUE))
+                // 캐시의 참조 해제 (응답 중인 요청이 없으면 바로 파일 삭제)
+                .removalListener((String key, CachedFile file, RemovalCause cause) -> {
+                    if (file != null) file.release();
+                })
+                .executor(imageCacheLoadExecutor)
+                .buildAsync();
+    }
+
+    /**
+     * [public 메서드]
+     * - 디스크에 캐시된 파일을 참조를 획득한 상태로 반환, 없으면 저장소에서 받아 디스크에 저장 후 반환
+     * - 호출 측은 응답이 끝나면 release (또는 sendfile로 넘긴 경우 releaseLater) 호출
+     * - 조회와 참조 획득 사이에 제거되어 이미 삭제된 파일이면 다시 조회 (제거된 항목은 캐시에 없으므로 새로 받음)
+     */
+    public CachedFile acquire(String key) {
+        try {
+            while (true) {
+                CachedFile file = contentCache.get(key, (cacheKey, executor) -> CompletableFuture.supplyAsync(() -> download(cacheKey), executor))
+                        .join();
+                if (file.retain()) return file;
+            }
+        } catch (RejectedExecutionException exception) {
+            // 캐시 로딩 대기열 포화
+            throw new CustomApplicationException(ErrorCode.TOO_MANY_IMAGE_LOADS);
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof CustomApplicationException cause) throw cause;
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_READ_FILE);
+        }
+    }
+
+    /**
+     * [public 메서드]
+     * - sendfile로 넘긴 파일의 참조를 지연 해제
+     * - 거절되면 참조가 해제되지 않으므로 대기열을 제한하는 캐시 로딩 실행기가 아닌 s3AsyncExecutor에서 실행
+     * - Tomcat은 핸들러가 반환된 직후 파일을 열고, 열린 파일은 삭제된 뒤에도 끝까지 전송되므로 여는 시점까지만 삭제를 막으면 됨
+     */
+    public void releaseLater(CachedFile file) {
+        CompletableFuture.runAsync(file::release,
+                CompletableFuture.delayedExecutor(sendfileReleaseDelay.toMillis(), TimeUnit.MILLISECONDS, s3AsyncExecutor));
+    }
+
+    /**
+     * [private 메서드]
+     * - 저장소 객체를 임시 파일에 받은 뒤 원자적 이동 (키별로 한 번만 실행)
+     * - 파일명은 매번 새로 생성 (제거된 항목의 파일 삭제와 같은 키의 재적재가 겹쳐도 서로 영향 없음)
+     */
+    private CachedFile download(String key) {
+        Path temp = null;
+        try (InputStream inputStream = imageStorage.get(key)
+                .orElseThrow(() -> new CustomApplicationException(ErrorCode.NOT_FOUND_IMAGE))) {
+            temp = Files.createTempFile(directoryPath, ".download-", ".tmp");
+
+            long size = 0;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(inputStream)) {
+                long transferred;
+                while ((transferred = channel.transferFrom(source, size, TRANSFER_CHUNK_SIZE)) > 0) {
+                    size += transferred;
+                }
+            }
+
+            Path target = directoryPath.resolve(UUID.randomUUID().toString());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return new CachedFile(target, size);
+        } catch (CustomApplicationException exception) {
+            deleteQuietly(temp);
+            throw exception;
+        } catch (IOException exception) {
+            deleteQuietly(temp);
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_READ_FILE);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException exception) {
+            log.warn(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * [디스크에 저장된 본문]
+     * - 참조 수는 캐시가 보유한 1로 시작, 0이 되면 파일 삭제 (0이 된 뒤에는 다시 획득할 수 없음)
+     */
+    public static final class CachedFile {
+
+        private final Path path;
+        private final long size;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        CachedFile(Path path, long size) {
+            this.path = path;
+            this.size = size;
+        }
+
+        public Path path() {
+            return path;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        // 참조 획득, 이미 삭제된 파일이면 false
+        boolean retain() {
+            int count;
+            do {
+                count = references.get();
+                if (count == 0) return false;
+            } while (!references.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        // 참조 해제, 마지막 참조면 파일 삭제
+        public void release() {
+            if (references.decrementAndGet() == 0) deleteQuietly(path);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package example.image.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * [업로드 허용 이미지 형식]
+ * - 형식별 MIME 타입과 허용 확장자, 실제 형식은 ImageHeaderReader가 파일 앞부분의 매직 바이트로 판별
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageFormat {
+    JPEG("image/jpeg", List.of("jpg", "jpeg")),
+    PNG("image/png", List.of("png")),
+    GIF("image/gif", List.of("gif"));
+
+    private final String contentType;
+    private final List<String> extensions;
+
+    public static Optional<ImageFormat> fromExtension(String extension) {
+        return Arrays.stream(values())
+                .filter(format -> format.extensions.contains(extension.toLowerCase()))
+                .findFirst();
+    }
+}
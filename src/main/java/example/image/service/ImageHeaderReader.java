@@ -0,0 +1,211 @@
+package example.image.service;
+
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+
+/**
+ * [이미지 헤더 검증]
+ * - 스트림 앞부분의 매직 바이트로 실제 형식(JPEG, PNG, GIF)을 판별하고, 헤더에서 가로/세로 크기를 읽음 (픽셀은 디코딩하지 않음)
+ * - 확장자와 실제 형식이 다르거나 해상도가 max-pixels를 넘으면 (디컴프레션 폭탄) 무거운 작업 전에 거절
+ * - 읽은 바이트는 버퍼에 보관해 검증 후 스트림 앞에 다시 이어 붙임 (본문을 두 번 읽지 않음)
+ */
+@Slf4j
+@Component
+public class ImageHeaderReader {
+
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] PNG_IHDR = {'I', 'H', 'D', 'R'};
+    private static final byte[] GIF87A = {'G', 'I', 'F', '8', '7', 'a'};
+    private static final byte[] GIF89A = {'G', 'I', 'F', '8', '9', 'a'};
+
+    @Value("${image.validation.max-pixels:100000000}")
+    private long maxPixels;
+
+    @Value("${image.validation.max-header-size:1MB}")
+    private DataSize maxHeaderSize;
+
+    /**
+     * [public 메서드]
+     * - 헤더를 읽어 실제 형식이 확장자와 일치하는지, 해상도가 허용 범위인지 검증
+     * - 반환한 ImageHeader의 inputStream은 읽은 헤더 바이트 + 나머지 본문 (원본 스트림 대신 사용)
+     */
+    public ImageHeader validate(InputStream inputStream, String extension) {
+        ImageHeader imageHeader = read(inputStream);
+
+        if (!imageHeader.format().getExtensions().contains(extension.toLowerCase())) {
+            throw new CustomApplicationException(ErrorCode.FILE_EXTENSION_MISMATCH);
+        }
+        if ((long) imageHeader.width() * imageHeader.height() > maxPixels) {
+            throw new CustomApplicationException(ErrorCode.EXCEED_IMAGE_PIXELS);
+        }
+        return imageHeader;
+    }
+
+    /**
+     * [public 메서드]
+     * - 헤더 검증에 필요한 최대 바이트 수 (S3 범위 조회 크기)
+     */
+    public long getMaxHeaderBytes() {
+        return maxHeaderSize.toBytes();
+    }
+
+    /**
+     * [private 메서드]
+     * - 매직 바이트로 형식 판별 후 형식별 헤더에서 크기 조회
+     */
+    private ImageHeader read(InputStream inputStream) {
+        HeaderBuffer buffer = new HeaderBuffer(inputStream, Math.toIntExact(maxHeaderSize.toBytes()));
+        try {
+            if (buffer.get(0) == -1) {
+                throw new CustomApplicationException(ErrorCode.NOT_EXIST_FILE);
+            }
+
+            ImageFormat format;
+            int[] size;
+            if (buffer.get(0) == 0xFF && buffer.get(1) == 0xD8 && buffer.get(2) == 0xFF) {
+                format = ImageFormat.JPEG;
+                size = readJpegSize(buffer);
+            } else if (buffer.startsWith(0, PNG_SIGNATURE) && buffer.startsWith(12, PNG_IHDR)) {
+                format = ImageFormat.PNG;
+                size = new int[]{buffer.getIntBigEndian(16), buffer.getIntBigEndian(20)};
+            } else if (buffer.startsWith(0, GIF87A) || buffer.startsWith(0, GIF89A)) {
+                format = ImageFormat.GIF;
+                size = new int[]{buffer.getShortLittleEndian(6), buffer.getShortLittleEndian(8)};
+            } else {
+                throw new CustomApplicationException(ErrorCode.INVALID_FILE_CONTENT);
+            }
+
+            // 헤더가 잘렸거나 크기가 0인 이미지
+            if (size[0] <= 0 || size[1] <= 0) {
+                throw new CustomApplicationException(ErrorCode.INVALID_FILE_CONTENT);
+            }
+            return new ImageHeader(format, size[0], size[1], buffer.replay());
+        } catch (IOException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+    }
+
+    /**
+     * [private 메서드]
+     * - JPEG 마커 세그먼트를 순서대로 건너뛰며 SOF(Start Of Frame) 세그먼트의 가로/세로 조회
+     * - SOF 전에 스캔 데이터(SOS)나 파일 끝(EOI)이 나오면 손상된 파일로 처리
+     */
+    private int[] readJpegSize(HeaderBuffer buffer) throws IOException {
+        int position = 2;
+        while (true) {
+            if (buffer.get(position) != 0xFF) {
+                throw new CustomApplicationException(ErrorCode.INVALID_FILE_CONTENT);
+            }
+
+            // 마커 앞의 채움 바이트(0xFF) 건너뜀
+            int marker = buffer.get(position + 1);
+            while (marker == 0xFF) {
+                position++;
+                marker = buffer.get(position + 1);
+            }
+            position += 2;
+
+            if (marker == -1 || marker == 0xD9 || marker == 0xDA) {
+                throw new CustomApplicationException(ErrorCode.INVALID_FILE_CONTENT);
+            }
+            // 길이 필드가 없는 마커 (TEM, RST0~7)
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) continue;
+
+            int segmentLength = buffer.getShortBigEndian(position);
+            if (segmentLength < 2) {
+                throw new CustomApplicationException(ErrorCode.INVALID_FILE_CONTENT);
+            }
+            // SOF0~15 (DHT, JPG, DAC 제외): 길이(2) 정밀도(1) 세로(2) 가로(2)
+            if (marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC) {
+                return new int[]{buffer.getShortBigEndian(position + 5), buffer.getShortBigEndian(position + 3)};
+            }
+            position += segmentLength;
+        }
+    }
+
+    // 검증 결과 (실제 형식, 가로/세로, 헤더 바이트를 다시 이어 붙인 본문 스트림)
+    public record ImageHeader(ImageFormat format, int width, int height, InputStream inputStream) {
+    }
+
+    /**
+     * 필요한 위치까지만 스트림을 읽어 보관하는 버퍼, 최대 limit 바이트
+     * - 범위를 벗어난 위치(스트림 끝)는 -1 반환
+     */
+    private static final class HeaderBuffer {
+
+        private final InputStream inputStream;
+        private final int limit;
+        private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+        private int length;
+        private boolean ended;
+
+        private HeaderBuffer(InputStream inputStream, int limit) {
+            this.inputStream = inputStream;
+            this.limit = limit;
+        }
+
+        private int get(int position) throws IOException {
+            fill(position + 1);
+            return position < length ? bytes[position] & 0xFF : -1;
+        }
+
+        private int getShortBigEndian(int position) throws IOException {
+            int high = get(position);
+            int low = get(position + 1);
+            return high < 0 || low < 0 ? -1 : high << 8 | low;
+        }
+
+        private int getShortLittleEndian(int position) throws IOException {
+            int low = get(position);
+            int high = get(position + 1);
+            return high < 0 || low < 0 ? -1 : high << 8 | low;
+        }
+
+        // PNG 가로/세로 (최대 2^31 - 1, 범위를 넘거나 잘린 값은 -1)
+        private int getIntBigEndian(int position) throws IOException {
+            int high = getShortBigEndian(position);
+            int low = getShortBigEndian(position + 2);
+            return high < 0 || low < 0 || high > 0x7FFF ? -1 : high << 16 | low;
+        }
+
+        private boolean startsWith(int position, byte[] expected) throws IOException {
+            for (int i = 0; i < expected.length; i++) {
+                if (get(position + i) != (expected[i] & 0xFF)) return false;
+            }
+            return true;
+        }
+
+        // size 바이트가 모일 때까지 읽음, limit를 넘는 위치가 필요하면 헤더가 비정상적으로 긴 파일로 처리
+        private void fill(int size) throws IOException {
+            if (size <= length || ended) return;
+            if (size > limit) {
+                throw new CustomApplicationException(ErrorCode.INVALID_FILE_CONTENT);
+            }
+            if (size > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.min(limit, Math.max(size, bytes.length * 2)));
+            }
+            while (length < size && !ended) {
+                int read = inputStream.read(bytes, length, bytes.length - length);
+                if (read == -1) ended = true;
+                else length += read;
+            }
+        }
+
+        // 읽은 헤더 바이트 + 나머지 본문
+        private InputStream replay() {
+            return new SequenceInputStream(new ByteArrayInputStream(bytes, 0, length), inputStream);
+        }
+    }
+}
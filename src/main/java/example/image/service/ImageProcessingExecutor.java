@@ -0,0 +1,151 @@
+package example.image.service;
+
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+/**
+ * [이미지 처리 전용 실행기]
+ * - 디코딩/축소/인코딩 같은 CPU 작업을 요청 스레드가 아닌 코어 수 크기의 고정 스레드 풀에서 실행 (동시 디코딩 수 = 코어 수)
+ * - 대기열이 가득 차거나 픽셀 버퍼 메모리 예산을 timeout 안에 확보하지 못하면 OOM 대신 503(Retry-After)으로 거절
+ * - 대기열 길이, 실행 중 작업 수, 대기 시간, 거절 수, 남은 메모리 예산을 메트릭(image.processing.*)으로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageProcessingExecutor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${image.processing.threads:0}")
+    private int threads;
+
+    @Value("${image.processing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${image.processing.memory-budget:512MB}")
+    private DataSize memoryBudget;
+
+    @Value("${image.processing.memory-wait-timeout:5s}")
+    private Duration memoryWaitTimeout;
+
+    private ThreadPoolExecutor executor;
+    private Semaphore memoryPermits; // KB 단위
+    private int memoryBudgetKb;
+    private Timer waitTimer;
+    private Counter queueFullRejections;
+    private Counter memoryRejections;
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-processing-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        memoryBudgetKb = Math.toIntExact(memoryBudget.toKilobytes());
+        memoryPermits = new Semaphore(memoryBudgetKb, true);
+
+        Gauge.builder("image.processing.queue.size", executor, pool -> pool.getQueue().size())
+                .description("이미지 처리 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("image.processing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 이미지 처리 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("image.processing.memory.available", memoryPermits, permits -> permits.availablePermits() * 1024.0)
+                .description("남은 픽셀 버퍼 메모리 예산")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        waitTimer = Timer.builder("image.processing.wait")
+                .description("이미지 처리 작업이 대기열에서 기다린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        queueFullRejections = rejectionCounter("queue_full");
+        memoryRejections = rejectionCounter("memory");
+
+        log.info("이미지 처리 실행기 설정 (threads: {}, queue: {}, memory-budget: {})", poolSize, queueCapacity, memoryBudget);
+    }
+
+    private Counter rejectionCounter(String reason) {
+        return Counter.builder("image.processing.rejected")
+                .description("포화로 거절된 이미지 처리 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * [public 메서드]
+     * - 작업을 처리 스레드 풀에서 실행하고 완료될 때까지 대기 후 결과 반환
+     * - 대기열이 가득 차면 즉시 503 (요청 스레드가 대기열 밖에서 무한히 쌓이지 않도록 함)
+     */
+    public <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException exception) {
+            queueFullRejections.increment();
+            throw new CustomApplicationException(ErrorCode.TOO_MANY_IMAGE_PROCESSING);
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) throw cause;
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+    }
+
+    /**
+     * [public 메서드]
+     * - 픽셀 버퍼 메모리 예산 확보, 반환된 reservation을 close하면 반납
+     * - memory-wait-timeout 동안 확보하지 못하면 503
+     * - 예산보다 큰 요청은 예산 전체를 확보 (다른 작업이 모두 끝난 뒤 단독 실행)
+     */
+    public MemoryReservation reserveMemory(long bytes) {
+        int kilobytes = (int) Math.min(memoryBudgetKb, Math.max(1, (bytes + 1023) / 1024));
+        try {
+            if (!memoryPermits.tryAcquire(kilobytes, memoryWaitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                memoryRejections.increment();
+                throw new CustomApplicationException(ErrorCode.TOO_MANY_IMAGE_PROCESSING);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+        return () -> memoryPermits.release(kilobytes);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    // try-with-resources로 메모리 예산 반납
+    public interface MemoryReservation extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -1,34 +1,31 @@
 package example.image.service;
 
-import example.domain.images.Image;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ImageScheduler {
 
-    private final ImageService imageService;
+    private final OrphanCleanupJobManager orphanCleanupJobManager;
 
-    @Transactional
+    /**
+     * - 고아 이미지 정리 작업 시작 (작업은 백그라운드에서 실행되며 종료 시 결과를 로그로 기록)
+     * - 수동 실행 중인 작업이 있으면 새로 시작하지 않고 해당 작업에 합류
+     */
     @Scheduled(cron = "0 0 0 * * MON") // 매주 월요일 00시 동작
     public void deleteOrphanImages() {
-        LocalDateTime threshold = LocalDateTime.now().minusWeeks(1); // 일주일 이상 지난 이미지
-
-        List<Image> oldUnlinkedImages = imageService.findOldUnlinkedImages(threshold);
+        OrphanCleanupJob job = orphanCleanupJobManager.submit(orphanThreshold());
+        log.info("고아 이미지 정리 작업 실행 (jobId: {})", job.getId());
+    }
 
-        if (!oldUnlinkedImages.isEmpty()) {
-            imageService.deleteImage(oldUnlinkedImages);
-            log.info("삭제된 고아 이미지 수 : {}개", oldUnlinkedImages.size());
-        } else {
-            log.info("고아 이미지가 없습니다.");
-        }
+    // 일주일 이상 지난 이미지
+    public LocalDateTime orphanThreshold() {
+        return LocalDateTime.now().minusWeeks(1);
     }
 }
@@ -2,29 +2,54 @@ package example.image.service;
 
 import example.domain.images.Image;
 import example.domain.images.ImageType;
+import example.domain.images.ImageVariant;
+import example.domain.images.PendingObjectDeletion;
+import example.domain.images.StoredObject;
 import example.domain.images.repository.ImageQueryRepository;
 import example.domain.images.repository.ImageRepository;
+import example.domain.images.repository.PendingObjectDeletionRepository;
+import example.domain.images.repository.StoredObjectRepository;
+import example.domain.images.repository.dto.ImageInfo;
+import example.domain.images.repository.dto.OrphanImage;
 import example.global.exception.CustomApplicationException;
 import example.global.exception.ErrorCode;
+import example.image.controller.dto.PresignResponse;
+import example.image.service.ImageHeaderReader.ImageHeader;
+import example.image.storage.ImageStorage;
+import example.image.storage.PresignedUpload;
+import example.image.storage.StorageObjectMetadata;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
-import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
-import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -32,12 +57,31 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class ImageService {
 
-    private final S3Client s3Client;
+    private final ImageStorage imageStorage;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ImageProcessingExecutor imageProcessingExecutor;
+    private final ImageHeaderReader imageHeaderReader;
+    private final UploadMetrics uploadMetrics;
     private final ImageRepository imageRepository;
     private final ImageQueryRepository imageQueryRepository;
+    private final StoredObjectRepository storedObjectRepository;
+    private final PendingObjectDeletionRepository pendingObjectDeletionRepository;
+    private final TransactionTemplate transactionTemplate;
 
-    @Value("${aws.s3.bucket-name}")
-    private String bucketName;
+    @Qualifier("s3AsyncExecutor")
+    private final ExecutorService s3AsyncExecutor;
+
+    @Value("${image.batch.max-files:30}")
+    private int maxBatchFiles;
+
+    @Value("${image.presign.expiration:10m}")
+    private Duration presignExpiration;
+
+    @Value("${image.presign.max-file-size:100MB}")
+    private DataSize maxDirectUploadSize;
+
+    @Value("${image.presign.pending-prefix:upload-pending/}")
+    private String pendingPrefix;
 
     /**
      * [public 메서드]
@@ -48,11 +92,236 @@ public class ImageService {
         // [Step 1] 유효성 검사
         validateImage(image);
 
-        // [Step 2] 유효성 검증 완료 후 S3 업로드
-        String imageName = uploadImageToS3(image, imageType);
+        // [Step 2] 유효성 검증 완료 후 내용 해시 계산, 같은 내용이 저장되어 있으면 재사용, 없으면 변환본과 원본 S3 업로드
+        UploadedImage uploadedImage = uploadImageWithVariants(image, imageType);
+
+        // [Step 3] 저장 객체 참조 등록 후 DB 저장 (변환본 함께 저장), imageEntity 반환
+        return uploadMetrics.recordSave(() -> createImages(List.of(uploadedImage)).get(0));
+    }
+
+    /**
+     * [public 메서드]
+     * - 다건 업로드, 입력 순서와 동일한 순서로 imageEntity 목록 반환
+     * - 전체 유효성 검사 후 S3 병렬 업로드 (이미 저장된 내용은 재사용), DB는 batch insert 한 번으로 저장
+     * - 일부 업로드 실패 또는 DB 저장 실패(롤백) 시 이미 업로드된 S3 객체 제거
+     * - 트랜잭션 없이 실행하여 해시 조회/업로드 동안 커넥션을 점유하지 않음, DB 저장만 별도 트랜잭션으로 실행
+     *   (호출 스레드가 커넥션을 잡은 채 작업 스레드가 다시 커넥션을 빌리면 동시 요청 수만큼 풀이 고갈됨)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Image> uploadAll(List<MultipartFile> images, ImageType imageType) {
+        // [Step 1] 모든 파일 유효성 검사 (하나라도 실패하면 S3 요청 없이 종료)
+        if (images == null || images.isEmpty()) {
+            throw new CustomApplicationException(ErrorCode.NOT_EXIST_FILE);
+        }
+        if (images.size() > maxBatchFiles) {
+            throw new CustomApplicationException(ErrorCode.EXCEED_FILE_COUNT);
+        }
+        images.forEach(this::validateImage);
+
+        // [Step 2] 내용 해시 계산, 변환본 생성, S3 병렬 업로드 (동시 처리 수는 s3AsyncExecutor가 제한)
+        List<CompletableFuture<UploadedImage>> uploads = images.stream()
+                .map(image -> CompletableFuture.supplyAsync(() -> uploadImageWithVariants(image, imageType), s3AsyncExecutor))
+                .toList();
+        List<UploadedImage> uploadedImages = awaitUploads(uploads);
+
+        // [Step 3] 저장 객체 참조 등록, 별도 트랜잭션으로 DB batch insert 후 입력 순서대로 imageEntity 반환 (롤백되면 업로드된 S3 객체 제거)
+        return uploadMetrics.recordSave(() -> transactionTemplate.execute(status -> createImages(uploadedImages)));
+    }
+
+    /**
+     * [public 메서드]
+     * - 비동기 업로드, 해시 계산과 S3 전송 동안 요청 스레드를 점유하지 않음
+     * - 같은 내용이 저장되어 있으면 업로드 없이 재사용
+     * - S3 업로드 완료 후 변환본 생성, 별도 트랜잭션으로 DB 저장, imageEntity를 담은 CompletableFuture 반환
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Image> uploadAsync(MultipartFile image, ImageType imageType) {
+        // [Step 1] 유효성 검사
+        validateImage(image);
+
+        // [Step 2] 유효성 검증 완료 후 내용 해시 계산, 같은 내용의 저장 객체가 있으면 재사용
+        return CompletableFuture.supplyAsync(() -> hash(image), s3AsyncExecutor)
+                .thenCompose(hash -> {
+                    Optional<StoredObject> storedObject = findReferencedObject(hash);
+                    if (storedObject.isPresent()) {
+                        return CompletableFuture.completedFuture(
+                                reuse(storedObject.get(), hash, () -> storeImageWithVariants(image, imageType, hash)));
+                    }
+
+                    // [Step 3] 비동기 업로드 완료 후 변환본 생성 (Netty 스레드를 막지 않도록 별도 스레드에서 실행)
+                    String imageName = createImageName(image.getOriginalFilename());
+                    return storeImageAsync(image, imageType.getPath() + imageName)
+                            .thenApplyAsync(ignored -> {
+                                Image uploadedImage = Image.create(imageType.getPath(), imageName);
+                                try {
+                                    imageVariantGenerator.generate(uploadedImage, image);
+                                } catch (CustomApplicationException exception) {
+                                    deleteUploadedObjects(List.of(uploadedImage));
+                                    throw exception;
+                                }
+                                return new UploadedImage(uploadedImage, hash, false);
+                            }, s3AsyncExecutor);
+                })
+                // [Step 4] 저장 객체 참조 등록, 별도 트랜잭션으로 DB 저장
+                .thenApplyAsync(
+                        uploadedImage -> uploadMetrics.recordSave(
+                                () -> transactionTemplate.execute(status -> createImages(List.of(uploadedImage)).get(0))),
+                        s3AsyncExecutor
+                );
+    }
+
+    /**
+     * [public 메서드]
+     * - 스트리밍 업로드, 요청 본문을 임시 파일에 저장하지 않고 도착하는 대로 S3에 전송
+     * - 유효성 검사는 파일명과 스트림 앞부분(헤더)으로 수행하며, 실패 시 S3 요청 없이 종료 (읽은 헤더는 다시 이어 붙여 전송)
+     * - 본문을 한 번만 읽으므로 변환본은 생성하지 않음 (원본만 저장)
+     * - 내용 해시는 전송하면서 계산, 같은 내용이 이미 저장되어 있으면 방금 올린 객체를 제거하고 기존 객체 참조
+     * - 전송 시간은 클라이언트 전송 속도에 좌우되므로 트랜잭션 없이 실행하여 커넥션을 점유하지 않음, 전송 완료 후 DB 저장만 별도 트랜잭션으로 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Image uploadStream(InputStream inputStream, String originalImageName, ImageType imageType) {
+        // [Step 1] 유효성 검사 (확장자, 실제 형식, 해상도)
+        String extension = validateImageName(originalImageName);
+        ImageHeader imageHeader = uploadMetrics.recordValidate(() -> imageHeaderReader.validate(inputStream, extension));
+
+        // [Step 2] 유효성 검증 완료 후 S3 스트리밍 업로드 (MIME 타입은 실제 형식으로 결정)
+        String imageName = UUID.randomUUID() + "." + extension;
+        MessageDigest digest = sha256();
+        try {
+            long startedAt = System.nanoTime();
+            long bytes = imageStorage.put(imageType.getPath() + imageName, imageHeader.format().getContentType(),
+                    new DigestInputStream(imageHeader.inputStream(), digest), -1);
+            uploadMetrics.recordStore(bytes, System.nanoTime() - startedAt);
+        } catch (CustomApplicationException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+
+        // [Step 3] 저장 객체 참조 등록 후 별도 트랜잭션으로 S3에 업로드 된 파일 DB 저장, imageEntity 반환
+        UploadedImage uploadedImage = new UploadedImage(
+                Image.create(imageType.getPath(), imageName), HexFormat.of().formatHex(digest.digest()), false);
+        return uploadMetrics.recordSave(() -> transactionTemplate.execute(status -> createImages(List.of(uploadedImage)).get(0)));
+    }
+
+    /**
+     * [public 메서드]
+     * - 직접 업로드용 presigned PUT URL 발급, 이미지 바이트가 서버를 거치지 않음
+     * - 파일명 확장자는 업로드와 같은 규칙으로 검증, Content-Type은 확장자로 결정
+     * - Content-Type, Content-Length가 서명에 포함되어 S3가 다른 형식/크기의 본문을 거부
+     * - 완료 요청 전까지는 대기 경로(pending-prefix)에 저장
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PresignResponse presignUpload(String fileName, long contentLength, ImageType imageType) {
+        // [Step 1] 확장자, 크기 검증
+        validateImageName(fileName);
+        if (contentLength <= 0) {
+            throw new CustomApplicationException(ErrorCode.NOT_EXIST_FILE);
+        }
+        if (contentLength > maxDirectUploadSize.toBytes()) {
+            throw new CustomApplicationException(ErrorCode.EXCEED_FILE_SIZE);
+        }
+
+        // [Step 2] 업로드 ID(저장될 이미지 명) 생성, Content-Type, Content-Length를 포함해 PUT 요청 서명
+        String uploadId = createImageName(fileName);
+        String contentType = getContentType(fileName);
+        PresignedUpload presignedUpload = imageStorage.presignPut(
+                getPendingKey(imageType, uploadId), contentType, contentLength, presignExpiration);
+
+        // [Step 3] 업로드 요청에 그대로 포함해야 하는 서명 헤더와 함께 반환
+        return new PresignResponse(
+                uploadId,
+                presignedUpload.method(),
+                presignedUpload.url(),
+                presignedUpload.headers(),
+                LocalDateTime.ofInstant(presignedUpload.expiration(), ZoneId.systemDefault())
+        );
+    }
+
+    /**
+     * [public 메서드]
+     * - 직접 업로드 완료 처리, 대기 경로의 객체를 HEAD로 확인 후 이미지 경로로 복사(저장소 내부 복사) 및 DB 저장, imageEntity 반환
+     * - 업로드되지 않았거나 이미 완료된 업로드 ID는 404, 허용 크기를 넘는 객체는 삭제 후 거부
+     * - 저장소 작업 전에 이미지 행을 먼저 insert하여 업로드 ID 선점 (upload_id 유니크)
+     *   같은 업로드 ID의 동시 완료 요청은 먼저 선점한 트랜잭션이 끝날 때까지 대기 후, 커밋되었으면 404 (롤백되었으면 이어서 처리)
+     * - 변환본은 생성하지 않음 (GET /api/image/{imageId}/variant 요청 시 생성)
+     */
+    @Transactional
+    public Image completeUpload(String uploadId, ImageType imageType) {
+        // [Step 1] 업로드 ID 형식 검증 (UUID.확장자 형식만 허용, 임의의 경로 지정 방지)
+        String extension = validateUploadId(uploadId);
+        String pendingKey = getPendingKey(imageType, uploadId);
+
+        // [Step 2] 업로드 ID 선점 (이미지 행 insert, 실패 시 롤백되어 행이 남지 않음)
+        Image image = claimUpload(imageType, uploadId);
+
+        // [Step 3] 업로드된 객체 확인
+        StorageObjectMetadata metadata = imageStorage.head(pendingKey)
+                .orElseThrow(() -> new CustomApplicationException(ErrorCode.NOT_FOUND_UPLOAD));
+        if (metadata.contentLength() > maxDirectUploadSize.toBytes()) {
+            imageStorage.delete(pendingKey);
+            throw new CustomApplicationException(ErrorCode.EXCEED_FILE_SIZE);
+        }
+
+        // [Step 4] 앞부분(헤더)만 범위 조회하여 실제 형식, 해상도 검증, 실패하면 대기 객체 삭제
+        try (InputStream headerStream = imageStorage.getRange(pendingKey, 0, imageHeaderReader.getMaxHeaderBytes())
+                .orElseThrow(() -> new CustomApplicationException(ErrorCode.NOT_FOUND_UPLOAD))) {
+            uploadMetrics.recordValidate(() -> imageHeaderReader.validate(headerStream, extension));
+        } catch (CustomApplicationException exception) {
+            imageStorage.delete(pendingKey);
+            throw exception;
+        } catch (IOException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+
+        // [Step 5] 트랜잭션이 롤백되면 복사한 객체 제거, 이미지 경로로 복사 후 대기 객체 삭제
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) deleteUploadedObjects(List.of(image));
+            }
+        });
+        imageStorage.copy(pendingKey, image.getKey());
+        imageStorage.delete(pendingKey);
+        return image;
+    }
+
+    /**
+     * [private 메서드]
+     * - 직접 업로드 이미지 행을 즉시 insert(flush)하여 업로드 ID 선점
+     * - 이미 완료된 업로드 ID면 upload_id 유니크 제약 위반 -> 404
+     */
+    private Image claimUpload(ImageType imageType, String uploadId) {
+        try {
+            return uploadMetrics.recordSave(() ->
+                    imageRepository.saveAndFlush(Image.createUploaded(imageType.getPath(), uploadId)));
+        } catch (DataIntegrityViolationException exception) {
+            throw new CustomApplicationException(ErrorCode.NOT_FOUND_UPLOAD);
+        }
+    }
+
+    /**
+     * [private 메서드]
+     * - 업로드 ID 형식 검증, 허용된 확장자의 UUID.확장자 형식만 허용, 확장자 반환
+     */
+    private String validateUploadId(String uploadId) {
+        try {
+            String extension = validateImageName(uploadId);
+            String uuid = uploadId.substring(0, uploadId.length() - extension.length() - 1);
+            if (!UUID.fromString(uuid).toString().equals(uuid)) {
+                throw new CustomApplicationException(ErrorCode.INVALID_UPLOAD_ID);
+            }
+            return extension;
+        } catch (IllegalArgumentException | CustomApplicationException exception) {
+            throw new CustomApplicationException(ErrorCode.INVALID_UPLOAD_ID);
+        }
+    }
 
-        // [Step 3] S3에 업로드 된 파일 DB 저장, imageEntity 반환
-        return createImage(imageType, imageName);
+    // 직접 업로드 대기 경로 키
+    private String getPendingKey(ImageType imageType, String uploadId) {
+        return pendingPrefix + imageType.getPath() + uploadId;
     }
 
     /**
@@ -65,60 +334,300 @@ public class ImageService {
             throw new CustomApplicationException(ErrorCode.NOT_EXIST_FILE);
         }
 
-        // [Step 1-2] 확장자 존재 유무 검증
-        String imageName = image.getOriginalFilename();
+        // [Step 1-2] 확장자 검증
+        String extension = validateImageName(image.getOriginalFilename());
+
+        // [Step 1-3] 파일 앞부분(헤더)만 읽어 실제 형식, 해상도 검증 (픽셀 디코딩 없음)
+        try (InputStream inputStream = image.getInputStream()) {
+            uploadMetrics.recordValidate(() -> imageHeaderReader.validate(inputStream, extension));
+        } catch (IOException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+    }
+
+    /**
+     * [private 메서드]
+     * - 파일명 확장자 검증, 검증된 확장자 반환
+     */
+    private String validateImageName(String imageName) {
+        // 확장자 존재 유무 검증
         if (imageName == null || !imageName.contains(".")) {
             throw new CustomApplicationException(ErrorCode.NOT_EXIST_FILE_EXTENSION);
         }
 
-        // [Step 1-3] 허용되지 않는 확장자 검증
+        // 허용되지 않는 확장자 검증
         String extension = imageName.substring(imageName.lastIndexOf(".") + 1).toLowerCase();
         List<String> allowedExtentionList = Arrays.asList("jpg", "jpeg", "png", "gif");
         if (!allowedExtentionList.contains(extension)) {
             throw new CustomApplicationException(ErrorCode.INVALID_FILE_EXTENSION);
         }
+        return extension;
     }
 
     /**
      * [private 메서드]
-     * - S3 업로드
+     * - 내용 해시 계산 후 같은 내용의 저장 객체가 있으면 업로드 없이 재사용 (원본, 변환본 공유)
+     * - 없으면 변환본과 원본 S3 업로드 (storeImageWithVariants)
      */
-    private String uploadImageToS3(MultipartFile image, ImageType imageType) {
-        String extension = Objects.requireNonNull(image.getOriginalFilename())
-                .substring(image.getOriginalFilename().lastIndexOf(".") + 1); // 확장자 명
-        String imageName = UUID.randomUUID() + "." + extension;
-        // [Step 2-1] 이미지 파일 -> InputStream 변환
-        try (InputStream inputStream = image.getInputStream()) {
-            // PutObjectRequest 객체 생성
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName) // 버킷 이름
-                    .key(imageType.getPath() + imageName) // 저장할 파일 이름
-                    .acl(ObjectCannedACL.PUBLIC_READ) // 퍼블릭 읽기 권한
-                    .contentType(image.getContentType()) // 이미지 MIME 타입
-                    .build();
+    private UploadedImage uploadImageWithVariants(MultipartFile image, ImageType imageType) {
+        // [Step 2-1] 내용 해시 계산, 같은 내용의 저장 객체 조회 (참조 등록 시점에 삭제 대기 중이면 직접 업로드로 전환)
+        String hash = hash(image);
+        Optional<StoredObject> storedObject = findReferencedObject(hash);
+        if (storedObject.isPresent()) return reuse(storedObject.get(), hash, () -> storeImageWithVariants(image, imageType, hash));
+        return storeImageWithVariants(image, imageType, hash);
+    }
 
-            // [Step 2-2] S3에 이미지 업로드
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, image.getSize()));
+    /**
+     * [private 메서드]
+     * - 원본을 한 번 디코딩하여 크기별 변환본 생성, 변환본과 원본 S3 업로드 후 저장 전 imageEntity 반환
+     * - 업로드 도중 실패하면 이미 올라간 변환본/원본 제거
+     */
+    private UploadedImage storeImageWithVariants(MultipartFile image, ImageType imageType, String hash) {
+        Image uploadedImage = Image.create(imageType.getPath(), createImageName(image.getOriginalFilename()));
+        try {
+            // [Step 2-2] 변환본 생성, S3 업로드
+            imageVariantGenerator.generate(uploadedImage, image);
 
-        } catch (Exception exception) {
+            // [Step 2-3] 원본 S3 업로드
+            storeImage(image, uploadedImage.getKey());
+        } catch (CustomApplicationException exception) {
+            deleteUploadedObjects(List.of(uploadedImage));
+            throw exception;
+        }
+        return new UploadedImage(uploadedImage, hash, false);
+    }
+
+    /**
+     * [private 메서드]
+     * - 파일 내용 SHA-256 해시 (이미지 처리 전용 실행기에서 계산)
+     */
+    private String hash(MultipartFile image) {
+        return imageProcessingExecutor.execute(() -> {
+            MessageDigest digest = sha256();
+            try (InputStream inputStream = new DigestInputStream(image.getInputStream(), digest)) {
+                inputStream.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        });
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    // 참조 중인(삭제 대기 중이 아닌) 같은 내용의 저장 객체 조회
+    private Optional<StoredObject> findReferencedObject(String hash) {
+        return storedObjectRepository.findById(hash).filter(StoredObject::isReferenced);
+    }
+
+    // 기존 저장 객체를 가리키는 이미지 생성 (S3 업로드 없음), fallback은 참조 등록 실패 시 실행할 직접 업로드
+    private UploadedImage reuse(StoredObject storedObject, String hash, Supplier<UploadedImage> fallback) {
+        return new UploadedImage(Image.create(storedObject.getPath(), storedObject.getName()), hash, true, fallback);
+    }
+
+    /**
+     * [private 메서드]
+     * - 저장할 이미지 명 생성 (UUID + 원본 확장자)
+     */
+    private String createImageName(String originalImageName) {
+        String extension = Objects.requireNonNull(originalImageName)
+                .substring(originalImageName.lastIndexOf(".") + 1); // 확장자 명
+        return UUID.randomUUID() + "." + extension;
+    }
+
+    /**
+     * [private 메서드]
+     * - 저장소 업로드 (S3는 threshold 이상이면 병렬 멀티파트 업로드)
+     */
+    private void storeImage(MultipartFile image, String key) {
+        try (InputStream inputStream = image.getInputStream()) {
+            long startedAt = System.nanoTime();
+            long bytes = imageStorage.put(key, getContentType(key), inputStream, image.getSize());
+            uploadMetrics.recordStore(bytes, System.nanoTime() - startedAt);
+        } catch (IOException exception) {
             log.error(exception.getMessage(), exception);
             throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
         }
+    }
+
+    /**
+     * [private 메서드]
+     * - 저장소 비동기 업로드, 완료 여부와 관계없이 InputStream 정리
+     */
+    private CompletableFuture<Void> storeImageAsync(MultipartFile image, String key) {
+        InputStream inputStream;
+        try {
+            inputStream = image.getInputStream();
+        } catch (IOException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+
+        // 헤더 검증으로 확장자와 실제 형식이 같으므로 MIME 타입은 확장자로 결정
+        long startedAt = System.nanoTime();
+        return imageStorage.putAsync(key, getContentType(key), inputStream, image.getSize())
+                .whenComplete((response, throwable) -> {
+                    closeQuietly(inputStream);
+                    if (throwable == null) uploadMetrics.recordStore(image.getSize(), System.nanoTime() - startedAt);
+                });
+    }
+
+    // 확장자로 MIME 타입 결정 (클라이언트가 보낸 Content-Type은 사용하지 않음)
+    private String getContentType(String imageName) {
+        return ImageFormat.fromExtension(imageName.substring(imageName.lastIndexOf(".") + 1))
+                .map(ImageFormat::getContentType)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException exception) {
+            log.warn(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * [private 메서드]
+     * - S3 병렬 업로드 결과 수집, 하나라도 실패하면 성공한 객체를 제거하고 첫 번째 실패 원인으로 예외 발생
+     */
+    private List<UploadedImage> awaitUploads(List<CompletableFuture<UploadedImage>> uploads) {
+        List<UploadedImage> uploadedImages = new ArrayList<>(uploads.size());
+        CustomApplicationException failure = null;
 
-        // [Step 2-3] s3에 저장된 imageName 반환
-        return imageName;
+        for (CompletableFuture<UploadedImage> upload : uploads) {
+            try {
+                uploadedImages.add(upload.join());
+            } catch (CompletionException exception) {
+                if (failure == null) {
+                    failure = exception.getCause() instanceof CustomApplicationException cause
+                            ? cause
+                            : new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+                }
+            }
+        }
+
+        if (failure != null) {
+            deleteUploadedObjects(uploadedImages.stream()
+                    .filter(uploadedImage -> !uploadedImage.reused()) // 재사용한 객체는 다른 이미지가 참조 중이므로 유지
+                    .map(UploadedImage::image)
+                    .toList());
+            throw failure;
+        }
+        return uploadedImages;
     }
 
     /**
      * [private 메서드]
-     * DB에 업로드된 이미지 저장
+     * - 업로드 실패 시 이미 올라간 S3 객체 정리 (정리 실패는 고아 객체로 남으므로 로그만 기록)
      */
-    private Image createImage(ImageType imageType, String imageName) {
-        // [Step 3-1] 이미지 저장, imageEntity 반환
-        return imageRepository.save(Image.create(
-                imageType.getPath(),
-                imageName
-        ));
+    private void deleteUploadedObjects(List<Image> uploadedImages) {
+        if (uploadedImages.isEmpty()) return;
+        List<String> keys = getFullKeys(uploadedImages);
+        try {
+            Set<String> failedKeys = imageStorage.deleteAll(keys);
+            if (!failedKeys.isEmpty()) log.error("업로드 실패 후 S3 객체 정리 실패 (keys: {})", failedKeys);
+        } catch (Exception exception) {
+            log.error("업로드 실패 후 S3 객체 정리 실패 (keys: {})", keys, exception);
+        }
+    }
+
+    /**
+     * [private 메서드]
+     * - 저장 객체 참조 등록 후 DB에 업로드된 이미지 일괄 저장 (변환본은 cascade로 함께 저장), 입력 순서대로 imageEntity 반환
+     * - 재사용: 참조 증가 후 같은 저장 객체를 가리키는 기존 이미지의 변환본 행 복사
+     *   그 사이 마지막 참조가 사라져 삭제 대기 중이 되었다면 아직 남아 있는 업로드 내용으로 직접 업로드 (fallback)
+     * - 새 업로드: 저장 객체 생성, 같은 내용이 동시에 먼저 등록되었다면 방금 올린 객체를 제거하고 기존 객체 참조 (변환본 행 복사)
+     *   (기존 객체가 삭제 대기 중이면 공유하지 않고 직접 올린 객체 사용)
+     * - 트랜잭션이 롤백되면 직접 업로드한 S3 객체 제거 (재사용한 객체는 유지)
+     * - 시퀀스 ID 전략이므로 Hibernate가 insert를 batch_size 단위로 묶어 전송
+     */
+    private List<Image> createImages(List<UploadedImage> uploadedImages) {
+        List<Image> ownedImages = new ArrayList<>(uploadedImages.stream()
+                .filter(uploadedImage -> !uploadedImage.reused())
+                .map(UploadedImage::image)
+                .toList());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) deleteUploadedObjects(ownedImages);
+            }
+        });
+
+        List<Image> images = new ArrayList<>(uploadedImages.size());
+        for (UploadedImage uploadedImage : uploadedImages) {
+            String hash = uploadedImage.hash();
+
+            if (uploadedImage.reused()) {
+                if (storedObjectRepository.increment(hash) == 1) {
+                    Image image = uploadedImage.image();
+                    image.linkStoredObject(storedObjectRepository.getReferenceById(hash));
+                    copyVariants(image, hash, images);
+                    images.add(image);
+                    continue;
+                }
+                uploadedImage = uploadedImage.fallback().get();
+                ownedImages.add(uploadedImage.image());
+            }
+
+            Image image = uploadedImage.image();
+            if (storedObjectRepository.insertIfAbsent(hash, image.getPath(), image.getName()) == 1) {
+                image.linkStoredObject(storedObjectRepository.getReferenceById(hash));
+            } else if (storedObjectRepository.increment(hash) == 1) {
+                ownedImages.remove(image);
+                deleteUploadedObjects(List.of(image));
+                image.replaceStoredObject(storedObjectRepository.findById(hash).orElseThrow());
+                copyVariants(image, hash, images);
+            }
+            images.add(image);
+        }
+
+        return imageRepository.saveAll(images);
+    }
+
+    // 같은 저장 객체를 가리키는 기존 이미지의 변환본 행 복사 (변환본 S3 객체는 저장 객체 키 접두사 아래에서 공유)
+    // 같은 요청에서 먼저 처리되어 아직 저장되지 않은 이미지가 있으면 그 변환본 사용, 없으면 DB 조회
+    private void copyVariants(Image image, String hash, List<Image> pendingImages) {
+        List<ImageVariant> variants = pendingImages.stream()
+                .filter(pending -> hash.equals(getStoredObjectHash(pending)) && !pending.getVariants().isEmpty())
+                .findFirst()
+                .map(Image::getVariants)
+                .orElseGet(() -> imageQueryRepository.findVariantsByStoredObject(hash));
+        variants.forEach(variant ->
+                image.addVariant(variant.getVariant(), variant.getName(), variant.getWidth(), variant.getHeight()));
+    }
+
+    /**
+     * [private 메서드]
+     * - 삭제된 이미지 수만큼 저장 객체 참조 감소 (저장 객체가 없는 이미지는 제외)
+     */
+    private void decrementReferences(List<String> storedObjectHashes) {
+        storedObjectHashes.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(hash -> hash, Collectors.counting()))
+                .forEach(storedObjectRepository::decrement);
+    }
+
+    // 저장 객체 해시 (프록시 초기화 없이 식별자만 조회)
+    private String getStoredObjectHash(Image image) {
+        return image.getStoredObject() == null ? null : image.getStoredObject().getHash();
+    }
+
+    // 업로드 결과 (저장 전 imageEntity, 내용 해시, 기존 저장 객체 재사용 여부, 재사용 실패 시 직접 업로드)
+    private record UploadedImage(Image image, String hash, boolean reused, Supplier<UploadedImage> fallback) {
+
+        UploadedImage(Image image, String hash, boolean reused) {
+            this(image, hash, reused, null);
+        }
+    }
+
+    // 고아 이미지 DB 삭제 결과 (삭제한 이미지 수, 커밋 이후 저장소에서 삭제할 키)
+    public record DeletedImages(long count, List<String> objectKeys) {
     }
 
     /**
@@ -127,23 +636,19 @@ public class ImageService {
      */
     @Transactional
     public void deleteImage(List<Image> images) {
-        // [Step 1] 각 이미지 객체의 path와 name을 결합해 S3에서 삭제할 키 목록 생성
-        List<String> keys = getFullKeys(images);
+        // [Step 1] 저장 객체를 공유하지 않는 이미지의 path와 name을 결합해 S3에서 삭제할 키 목록 생성
+        // (공유 저장 객체는 참조만 감소, 마지막 참조가 사라지면 정리 작업이 S3 객체 제거)
+        List<String> keys = getFullKeys(images.stream().filter(image -> image.getStoredObject() == null).toList());
 
         try {
-            // [Step 2] 생성한 키 목록을 기반으로 S3에서 파일을 삭제하기 위한 요청 객체 생성
-            DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
-                    .bucket(bucketName)
-                    .delete(delete -> delete.objects(
-                            keys.stream()
-                                    .map(key -> ObjectIdentifier.builder().key(key).build())
-                                    .toList()
-                    ))
-                    .build();
-
-            // [Step 3] S3 및 DB 이미지 제거
-            s3Client.deleteObjects(deleteObjectsRequest);
+            // [Step 2] S3 이미지 제거 (하나라도 실패하면 DB 이미지를 남기고 예외)
+            if (!keys.isEmpty() && !imageStorage.deleteAll(keys).isEmpty()) {
+                throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_DELETE_FILE);
+            }
+
+            // [Step 3] DB 이미지 제거, 저장 객체 참조 감소
             imageRepository.deleteAll(images);
+            decrementReferences(images.stream().map(this::getStoredObjectHash).toList());
 
         } catch (Exception exception) {
             log.error(exception.getMessage(), exception);
@@ -151,34 +656,89 @@ public class ImageService {
         }
     }
 
+    /**
+     * [public 메서드]
+     * - S3, DB 이미지 비동기 제거
+     * - S3 삭제 완료 후 별도 트랜잭션으로 DB 이미지 일괄 삭제
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> deleteImageAsync(List<Image> images) {
+        // [Step 1] S3 삭제 키 목록 (저장 객체를 공유하지 않는 이미지만), DB 삭제 ID 목록, 참조 감소 대상 생성
+        List<String> keys = getFullKeys(images.stream().filter(image -> image.getStoredObject() == null).toList());
+        List<Long> imageIds = images.stream().map(Image::getId).toList();
+        List<String> storedObjectHashes = images.stream().map(this::getStoredObjectHash).toList();
+
+        CompletableFuture<Set<String>> deleteObjects = keys.isEmpty()
+                ? CompletableFuture.completedFuture(Set.of())
+                : imageStorage.deleteAllAsync(keys);
+
+        // [Step 2] S3 비동기 삭제 후 DB 변환본, 이미지 제거, 저장 객체 참조 감소 (S3 삭제에 실패한 키가 있으면 DB 이미지 유지)
+        return deleteObjects
+                .thenAcceptAsync(failedKeys -> {
+                    if (!failedKeys.isEmpty()) {
+                        throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_DELETE_FILE);
+                    }
+                    transactionTemplate.executeWithoutResult(status -> {
+                        imageQueryRepository.deleteImagesWithVariants(imageIds);
+                        decrementReferences(storedObjectHashes);
+                    });
+                }, s3AsyncExecutor)
+                .exceptionally(throwable -> {
+                    log.error(throwable.getMessage(), throwable);
+                    throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_DELETE_FILE);
+                });
+    }
+
     /**
      * [private 메서드]
-     * 이미지 객체의 path와 name을 결합하여 S3에서 삭제할 키 목록 생성
+     * 이미지 객체의 path와 name을 결합하여 S3에서 삭제할 키 목록 생성 (변환본 키 포함)
      */
     private List<String> getFullKeys(List<Image> images) {
         return images.stream()
-                .map(image -> image.getPath() + image.getName())
+                .flatMap(image -> Stream.concat(
+                        Stream.of(image.getKey()),
+                        image.getVariants().stream().map(ImageVariant::getKey)
+                ))
                 .toList();
     }
 
     /**
      * [public 메서드]
-     * - 이미지 ID를 기준으로 이미지 목록을 조회
-     * - 조회된 이미지가 없다면 예외 발생, List응답은 빈값으로 처리되어 Optional처리가 되지 않아 Empty로 직접 체크
+     * - 요청받은 이미지 중 상품과 연결되지 않은 이미지만 productId에 매핑 (벌크 업데이트, 엔티티 조회 없음)
+     * - 요청한 이미지가 하나도 존재하지 않으면 예외 발생 (매핑된 이미지가 없을 때만 존재 여부 조회)
      */
-    public List<Image> findAllByImageId(List<Long> imageIds) {
-        List<Image> images = imageRepository.findAllById(imageIds);
-        if (images.isEmpty()) throw new CustomApplicationException(ErrorCode.IMAGE_ID_MISSING);
-        return images;
+    public void assignUnlinkedImages(Long productId, List<Long> imageIds) {
+        long assigned = imageQueryRepository.assignUnlinkedProduct(productId, imageIds);
+        if (assigned == 0 && !imageQueryRepository.existsByIds(imageIds)) {
+            throw new CustomApplicationException(ErrorCode.IMAGE_ID_MISSING);
+        }
     }
 
     /**
      * [public 메서드]
-     * - productId로 이미지 List 조회
+     * - 이미지 단건 조회, 없으면 404
+     */
+    public Image findImage(Long imageId) {
+        return imageRepository.findById(imageId)
+                .orElseThrow(() -> new CustomApplicationException(ErrorCode.NOT_FOUND_IMAGE));
+    }
+
+    /**
+     * [public 메서드]
+     * - productId로 이미지 List 조회 (ImageInfo 프로젝션, 업로드 시 생성한 변환본 포함)
      * - 이미지 없을 시 빈 리스트 응답
      */
-    public List<Image> findImageByProductId(Long productId) {
-        return imageRepository.findByProductId(productId);
+    public List<ImageInfo> findImageByProductId(Long productId) {
+        return imageQueryRepository.findInfosByProductId(productId, imageVariantGenerator.getVariantNames());
+    }
+
+    /**
+     * [public 메서드]
+     * - 여러 상품에 매핑된 이미지 일괄 조회 (단일 IN 쿼리, ImageInfo 프로젝션, 업로드 시 생성한 변환본 포함)
+     */
+    public List<ImageInfo> findImagesByProductIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) return Collections.emptyList();
+        return imageQueryRepository.findInfosByProductIds(productIds, imageVariantGenerator.getVariantNames());
     }
 
     /**
@@ -191,18 +751,112 @@ public class ImageService {
 
     /**
      * [public 메서드]
-     * - image <-> productId 매핑
+     * - image <-> productId 매핑 (상품 수정 시, 기존 매핑 해제 이후 호출)
+     * - 상품과 연결되지 않은 이미지만 매핑 (매핑 해제된 이 상품의 이미지 포함), 다른 상품에 연결된 이미지는 가져오지 않음
+     * - 요청한 이미지 중 매핑되지 않은 이미지(다른 상품에 연결, 존재하지 않음)가 있으면 예외 발생 (트랜잭션 롤백)
      */
     public void assignProduct(Long productId, List<Long> imageIds) {
-        imageQueryRepository.assignProduct(productId, imageIds);
+        long assigned = imageQueryRepository.assignUnlinkedProduct(productId, imageIds);
+        if (assigned != imageIds.stream().distinct().count()) {
+            throw new CustomApplicationException(ErrorCode.IMAGE_NOT_ASSIGNABLE);
+        }
+    }
+
+    /**
+     * [public 메서드]
+     * - 고아 이미지 청크 조회 (id, path, name, createdAt 프로젝션)
+     * - productId가 null 인 이미지 중 createdAt이 주어진 기준(threshold)보다 오래된 것들을 cursor 이후부터 size개 조회
+     * - partitionCount개로 나눈 id 파티션 중 partition 번째만 조회
+     */
+    public List<OrphanImage> findOldUnlinkedImages(LocalDateTime threshold, OrphanImage cursor, int size,
+                                                   int partition, int partitionCount) {
+        return imageQueryRepository.findOldUnlinkedImages(threshold, cursor, size, partition, partitionCount);
+    }
+
+    /**
+     * [public 메서드]
+     * - 고아 이미지 DB 일괄 삭제 (변환본 삭제 후 단일 DELETE ... WHERE id IN), 호출 단위로 커밋
+     * - 삭제 직전에도 상품과 연결되지 않은 이미지만 잠금 후 삭제, 삭제한 이미지 수만큼 저장 객체 참조 감소
+     * - 실제로 삭제한 이미지 중 저장 객체를 공유하지 않는 이미지의 원본 + 변환본 키를 같은 트랜잭션에서 삭제 대기로 기록 후 반환
+     *   (저장소 삭제는 호출 측이 커밋 이후 수행, 조회 이후 상품에 연결되어 남은 이미지의 객체는 삭제 대상에 포함되지 않음)
+     */
+    @Transactional
+    public DeletedImages deleteUnlinkedImages(List<Long> imageIds) {
+        if (imageIds.isEmpty()) return new DeletedImages(0, List.of());
+
+        // [Step 1] 여전히 상품과 연결되지 않은 이미지 잠금 조회
+        List<OrphanImage> unlinkedImages = imageQueryRepository.lockUnlinkedImages(imageIds);
+        if (unlinkedImages.isEmpty()) return new DeletedImages(0, List.of());
+
+        // [Step 2] 저장 객체를 공유하지 않는 이미지의 원본 + 변환본 키 수집 (공유 객체는 저장 객체 정리에서 제거)
+        List<OrphanImage> ownedImages = unlinkedImages.stream()
+                .filter(unlinkedImage -> unlinkedImage.getStoredObjectHash() == null)
+                .toList();
+        List<String> objectKeys = new ArrayList<>(ownedImages.stream().map(OrphanImage::getKey).toList());
+        if (!ownedImages.isEmpty()) {
+            imageQueryRepository.findVariantKeys(ownedImages.stream().map(OrphanImage::getId).toList())
+                    .forEach(variantKey -> objectKeys.add(variantKey.getKey()));
+        }
+
+        // [Step 3] 변환본, 이미지 삭제, 저장 객체 참조 감소, 저장소 삭제 대기 기록
+        long deleted = imageQueryRepository.deleteImagesWithVariants(
+                unlinkedImages.stream().map(OrphanImage::getId).toList());
+        decrementReferences(unlinkedImages.stream().map(OrphanImage::getStoredObjectHash).toList());
+        pendingObjectDeletionRepository.saveAll(objectKeys.stream().map(PendingObjectDeletion::new).toList());
+        return new DeletedImages(deleted, objectKeys);
+    }
+
+    /**
+     * [public 메서드]
+     * - 삭제 대기 중인 저장소 객체 키 청크 조회 (키 순 cursor 이후부터 size개)
+     */
+    public List<String> findPendingObjectDeletions(String cursor, int size) {
+        return pendingObjectDeletionRepository.findKeysAfter(cursor, Limit.of(size));
+    }
+
+    /**
+     * [public 메서드]
+     * - 저장소 삭제에 성공한 키를 삭제 대기 목록에서 제거
+     */
+    @Transactional
+    public void completeObjectDeletions(List<String> keys) {
+        if (keys.isEmpty()) return;
+        pendingObjectDeletionRepository.deleteByKeys(keys);
+    }
+
+    /**
+     * [public 메서드]
+     * - 참조가 0이 된 저장 객체 청크 조회 (hash 순 cursor 이후부터 size개)
+     */
+    public List<StoredObject> findUnreferencedObjects(String cursor, int size) {
+        return storedObjectRepository.findUnreferenced(cursor, Limit.of(size));
+    }
+
+    /**
+     * [public 메서드]
+     * - 키 접두사로 S3 객체 키 목록 조회 (저장 객체의 원본, 사전 생성 변환본, 요청 시 생성 변환본)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> listObjectKeys(String prefix) {
+        return imageStorage.list(prefix);
+    }
+
+    /**
+     * [public 메서드]
+     * - 참조가 0인 저장 객체 행 삭제 (그 사이 다시 참조되었으면 삭제하지 않음), 삭제 여부 반환
+     */
+    @Transactional
+    public boolean deleteUnreferencedObject(String hash) {
+        return storedObjectRepository.deleteUnreferenced(hash) == 1;
     }
 
     /**
      * [public 메서드]
-     * - 고아 이미지 조회
-     * - productId가 null 인 이미지 중 createdAt이 주어진 기준(threshold)보다 오래된 것들만 조회
+     * - S3 객체 일괄 삭제 (S3 저장소는 DeleteObjects 최대 키 수(1000) 단위로 나눠 동시에 요청)
+     * - 삭제에 실패한 키 목록 반환 (요청 자체가 실패한 배치는 모든 키를 실패로 처리)
      */
-    public List<Image> findOldUnlinkedImages(LocalDateTime threshold) {
-        return imageQueryRepository.findOldUnlinkedImages(threshold);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Set<String> deleteObjects(List<String> keys) {
+        return imageStorage.deleteAll(keys);
     }
 }
@@ -0,0 +1,119 @@
+package example.image.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import example.domain.images.Image;
+import example.domain.images.ImageVariant;
+import example.domain.images.repository.dto.ImageInfo;
+import example.domain.images.repository.dto.ImageVariantKey;
+import example.image.storage.ImageStorage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * [이미지 조회 URL]
+ * - 저장소가 서명 URL을 지원하면 서명 URL, 아니면 GET /api/image/{id}/content 경로 반환
+ * - 업로드 시 생성한 변환본도 같은 방식으로 서명, 서명을 지원하지 않으면 GET /api/image/{id}/variant?name={variant} 경로 반환
+ * - 서명 결과는 유효 기간의 절반 동안 캐싱하여 재사용
+ *   1. 서명(정규 요청 생성, HMAC 계산, URL 조립) 비용과 할당을 키 당 유효 기간 절반에 한 번으로 줄임
+ *   2. 같은 이미지는 캐싱 기간 동안 같은 URL을 받으므로 URL을 캐시 키로 쓰는 브라우저/CDN 캐시가 적중
+ *   3. 응답에 포함되는 URL은 항상 유효 기간이 절반 이상 남아 있음
+ * - 상품 상세 응답 캐시(product.cache.ttl)에 담긴 URL도 만료 전이어야 하므로 expiration은 ttl의 2배보다 길어야 함
+ *   1. 서명 캐시에서 최대 expiration/2 지난 URL이 응답 캐시에 다시 ttl 동안 머무름
+ *   2. 설정이 이 조건을 만족하지 않으면 기동 시점에 실패시켜 만료된 URL이 응답되는 것을 막음
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageUrlSigner {
+
+    private final ImageStorage imageStorage;
+
+    @Value("${image.url.expiration:1h}")
+    private Duration expiration;
+
+    @Value("${product.cache.ttl:10m}")
+    private Duration productCacheTtl;
+
+    @Value("${image.url.cache-size:100000}")
+    private long cacheSize;
+
+    private Cache<String, String> urlCache;
+
+    @PostConstruct
+    void initUrlCache() {
+        // 캐싱된 상품 응답이 만료될 때까지 응답 안의 URL도 유효해야 함
+        if (expiration.compareTo(productCacheTtl.multipliedBy(2)) <= 0) {
+            throw new IllegalStateException("image.url.expiration(" + expiration + ")은 product.cache.ttl(" + productCacheTtl + ")의 2배보다 길어야 합니다.");
+        }
+
+        urlCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(expiration.dividedBy(2))
+                .build();
+    }
+
+    /**
+     * [public 메서드]
+     * - 이미지 엔티티의 조회 URL
+     */
+    public String getUrl(Image image) {
+        return getUrl(image.getId(), image.getKey());
+    }
+
+    /**
+     * [public 메서드]
+     * - 이미지 프로젝션의 조회 URL
+     */
+    public String getUrl(ImageInfo imageInfo) {
+        return getUrl(imageInfo.getId(), imageInfo.getPath() + imageInfo.getName());
+    }
+
+    /**
+     * [public 메서드]
+     * - 이미지 엔티티의 업로드 시 생성한 변환본 조회 URL (variant 이름 -> URL)
+     */
+    public Map<String, String> getVariantUrls(Image image) {
+        Map<String, String> variantUrls = new LinkedHashMap<>();
+        for (ImageVariant variant : image.getVariants()) {
+            variantUrls.put(variant.getVariant(), getVariantUrl(image.getId(), variant.getVariant(), variant.getKey()));
+        }
+        return variantUrls;
+    }
+
+    /**
+     * [public 메서드]
+     * - 이미지 프로젝션의 업로드 시 생성한 변환본 조회 URL (variant 이름 -> URL)
+     */
+    public Map<String, String> getVariantUrls(ImageInfo imageInfo) {
+        Map<String, String> variantUrls = new LinkedHashMap<>();
+        for (ImageVariantKey variantKey : imageInfo.getVariants()) {
+            variantUrls.put(variantKey.getVariant(),
+                    getVariantUrl(variantKey.getImageId(), variantKey.getVariant(), variantKey.getKey()));
+        }
+        return variantUrls;
+    }
+
+    // 서명 URL을 지원하지 않는 저장소는 캐싱하지 않음 (로더가 null 반환)
+    private String getUrl(Long imageId, String key) {
+        String url = sign(key);
+        return url != null ? url : "/api/image/" + imageId + "/content";
+    }
+
+    // 서명 URL을 지원하지 않는 저장소는 이름 지정 변환본 조회 경로 반환
+    private String getVariantUrl(Long imageId, String variant, String key) {
+        String url = sign(key);
+        return url != null ? url : "/api/image/" + imageId + "/variant?name=" + URLEncoder.encode(variant, StandardCharsets.UTF_8);
+    }
+
+    private String sign(String key) {
+        return urlCache.get(key, cacheKey -> imageStorage.presignGet(cacheKey, expiration).orElse(null));
+    }
+}
@@ -0,0 +1,302 @@
+package example.image.service;
+
+import example.domain.images.Image;
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+import example.image.storage.ImageStorage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * [이미지 변환본 생성]
+ * - 업로드 시: 원본을 한 번만 디코딩하여 설정된 크기(image.variant.sizes)별 변환본을 만들고 S3에 업로드
+ * - 요청 시: 원본 스트림으로 요청 크기/형식의 변환본 하나를 생성 (ImageVariantResolver)
+ * - 업로드 시 변환본은 원본 이미지 명 기준의 키({uuid}_{variant}.{ext})로 저장하고 Image 엔티티에 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantGenerator {
+
+    private final ImageStorage imageStorage;
+    private final ImageProcessingExecutor imageProcessingExecutor;
+
+    @Value("${image.variant.enabled:true}")
+    private boolean enabled;
+
+    @Value("${image.variant.sizes:thumbnail:320}")
+    private List<String> sizes;
+
+    @Value("${image.variant.max-decode-pixels:16000000}")
+    private long maxDecodePixels;
+
+    @Value("${image.variant.quality:0.8}")
+    private float quality;
+
+    private List<VariantSize> variantSizes;
+    private boolean webpWritable;
+
+    @PostConstruct
+    void init() {
+        // 긴 변 기준 내림차순 (큰 변환본을 다음 변환본의 원본으로 사용해 축소 비용 감소)
+        variantSizes = sizes.stream()
+                .map(String::trim)
+                .map(size -> new VariantSize(
+                        size.substring(0, size.indexOf(':')),
+                        Integer.parseInt(size.substring(size.indexOf(':') + 1).trim())
+                ))
+                .sorted(Comparator.comparingInt(VariantSize::maxEdge).reversed())
+                .toList();
+
+        // JDK ImageIO에는 WebP/AVIF 인코더가 없으므로 WebP 플러그인이 클래스패스에 있을 때만 WebP 사용
+        webpWritable = ImageIO.getImageWritersByFormatName("webp").hasNext();
+        log.info("이미지 변환본 설정 (enabled: {}, sizes: {}, format: {})", enabled, variantSizes, webpWritable ? "webp" : "jpeg/png");
+    }
+
+    /**
+     * [public 메서드]
+     * - 원본을 디코딩하여 크기별 변환본 생성 후 S3 업로드, 업로드된 변환본을 image에 추가
+     * - 디코딩/축소/인코딩은 이미지 처리 전용 실행기에서 실행 (포화 시 503), S3 업로드는 호출 스레드에서 실행
+     * - 디코딩할 수 없는 이미지(CMYK JPEG 등)는 변환본 없이 원본만 저장
+     * - 업로드 도중 실패하면 예외 발생, 이미 업로드된 변환본은 image에 추가되어 있으므로 호출 측에서 정리
+     */
+    public void generate(Image image, MultipartFile source) {
+        if (!enabled || variantSizes.isEmpty()) return;
+
+        try {
+            // [Step 1] 디코딩, 축소, 인코딩 (CPU 작업)
+            int largestEdge = variantSizes.get(0).maxEdge();
+            List<EncodedVariant> encodedVariants = imageProcessingExecutor.execute(() -> {
+                try (InputStream inputStream = source.getInputStream()) {
+                    return decode(inputStream, largestEdge, largestEdge, this::encodeVariants);
+                }
+            });
+            if (encodedVariants == null) {
+                log.warn("변환본을 생성할 수 없는 이미지입니다. 원본만 저장합니다. (image: {})", image.getName());
+                return;
+            }
+
+            // [Step 2] 변환본 S3 업로드
+            String baseName = image.getName().substring(0, image.getName().lastIndexOf("."));
+            for (EncodedVariant encodedVariant : encodedVariants) {
+                String variantName = baseName + "_" + encodedVariant.name() + "." + encodedVariant.extension();
+                imageStorage.put(image.getPath() + variantName, encodedVariant.contentType(),
+                        new ByteArrayInputStream(encodedVariant.data()), encodedVariant.data().length);
+                image.addVariant(encodedVariant.name(), variantName, encodedVariant.width(), encodedVariant.height());
+            }
+        } catch (CustomApplicationException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+    }
+
+    /**
+     * [public 메서드]
+     * - 원본 스트림으로 width x height 영역 안에 들어가는 변환본 하나를 생성 (0이면 해당 축 제한 없음, 확대하지 않음)
+     * - 이미지 처리 전용 실행기에서 실행, 디코딩할 수 없는 이미지면 null
+     */
+    public EncodedVariant render(InputStream source, int width, int height, String format) {
+        return imageProcessingExecutor.execute(() -> decode(source, width, height, decoded -> {
+            BufferedImage resized = resize(decoded, width, height, decoded.getColorModel().hasAlpha());
+            return toEncodedVariant(width + "x" + height, format, resized);
+        }));
+    }
+
+    /**
+     * [public 메서드]
+     * - 업로드 시 생성하는 변환본 이름 목록 (image.variant.sizes, 요청 시 생성한 변환본과 구분)
+     */
+    public List<String> getVariantNames() {
+        return variantSizes.stream().map(VariantSize::name).toList();
+    }
+
+    /**
+     * [public 메서드]
+     * - 요청 가능한 변환본 형식인지 확인 (webp는 WebP 플러그인이 있을 때만)
+     */
+    public boolean isSupportedFormat(String format) {
+        return format.equals("jpeg") || format.equals("png") || (format.equals("webp") && webpWritable);
+    }
+
+    /**
+     * [private 메서드]
+     * - 첫 프레임을 서브샘플링하여 디코딩 후 handler 적용 (읽을 수 없는 형식이면 null)
+     * - 서브샘플링은 boxWidth x boxHeight 축소 결과보다 작아지지 않는 범위에서, 디코딩 픽셀 수가 max-decode-pixels 이하가 되도록 결정
+     * - 원본 스트림은 ImageIO 디스크 캐시로 읽어 파일 전체를 메모리에 올리지 않음
+     * - 디코딩 전에 헤더의 크기로 픽셀 버퍼(디코딩 결과 + 축소본) 메모리 예산을 확보하고 handler가 끝나면 반납
+     */
+    private <T> T decode(InputStream inputStream, int boxWidth, int boxHeight, DecodedImageHandler<T> handler) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int step = subsampling(width, height, boxWidth, boxHeight);
+                long decodedPixels = (long) (width / step) * (height / step);
+
+                try (ImageProcessingExecutor.MemoryReservation reservation = imageProcessingExecutor.reserveMemory(decodedPixels * 4 * 2)) {
+                    ImageReadParam readParam = reader.getDefaultReadParam();
+                    readParam.setSourceSubsampling(step, step, 0, 0);
+                    return handler.handle(reader.read(0, readParam));
+                }
+            } catch (IOException exception) {
+                log.warn("이미지 디코딩 실패 ({})", exception.getMessage());
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * [private 메서드]
+     * - 서브샘플링 간격 계산
+     * - 축소 결과 크기 이상을 유지하는 최대 간격에서 시작해, 픽셀 수가 max-decode-pixels 이하가 될 때까지 증가
+     */
+    private int subsampling(int width, int height, int boxWidth, int boxHeight) {
+        double scale = scale(width, height, boxWidth, boxHeight);
+        int step = Math.max(1, (int) Math.floor(1 / scale));
+        while ((long) (width / step) * (height / step) > maxDecodePixels) step++;
+        return step;
+    }
+
+    // width x height 영역 안에 들어가는 축소 비율 (0이면 해당 축 제한 없음, 1 초과 확대 없음)
+    private double scale(int width, int height, int boxWidth, int boxHeight) {
+        double scale = 1.0;
+        if (boxWidth > 0) scale = Math.min(scale, (double) boxWidth / width);
+        if (boxHeight > 0) scale = Math.min(scale, (double) boxHeight / height);
+        return scale;
+    }
+
+    /**
+     * [private 메서드]
+     * - 큰 변환본부터 축소하여 인코딩 (이전 축소본을 다음 변환본의 원본으로 사용)
+     */
+    private List<EncodedVariant> encodeVariants(BufferedImage decoded) throws IOException {
+        boolean alpha = decoded.getColorModel().hasAlpha();
+        String format = webpWritable ? "webp" : alpha ? "png" : "jpeg";
+
+        List<EncodedVariant> encodedVariants = new ArrayList<>(variantSizes.size());
+        BufferedImage current = decoded;
+        for (VariantSize variantSize : variantSizes) {
+            current = resize(current, variantSize.maxEdge(), variantSize.maxEdge(), alpha);
+            encodedVariants.add(toEncodedVariant(variantSize.name(), format, current));
+        }
+        return encodedVariants;
+    }
+
+    private EncodedVariant toEncodedVariant(String name, String format, BufferedImage image) throws IOException {
+        return new EncodedVariant(
+                name,
+                format.equals("jpeg") ? "jpg" : format,
+                "image/" + format,
+                image.getWidth(),
+                image.getHeight(),
+                encode(image, format)
+        );
+    }
+
+    /**
+     * [private 메서드]
+     * - boxWidth x boxHeight 영역 안에 들어가도록 비율 유지 축소 (확대하지 않음)
+     * - 인코더가 처리할 수 있도록 RGB/ARGB 이미지로 변환 (팔레트 GIF 등)
+     */
+    private BufferedImage resize(BufferedImage source, int boxWidth, int boxHeight, boolean alpha) {
+        int targetType = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        double scale = scale(source.getWidth(), source.getHeight(), boxWidth, boxHeight);
+        if (scale >= 1.0 && source.getType() == targetType) return source;
+
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, targetType);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * [private 메서드]
+     * - 변환본 인코딩, 손실 압축을 지원하는 형식은 quality 적용
+     * - JPEG는 알파 채널을 지원하지 않으므로 알파 이미지는 흰 배경 RGB로 변환 후 인코딩
+     */
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        if (format.equals("jpeg") && image.getColorModel().hasAlpha()) {
+            BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = rgb.createGraphics();
+            try {
+                graphics.drawImage(image, 0, 0, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+            image = rgb;
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            ImageWriteParam writeParam = writer.getDefaultWriteParam();
+            if (!format.equals("png") && writeParam.canWriteCompressed()) {
+                writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (writeParam.getCompressionTypes() != null) {
+                    writeParam.setCompressionType(writeParam.getCompressionTypes()[0]);
+                }
+                writeParam.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), writeParam);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface DecodedImageHandler<T> {
+        T handle(BufferedImage decoded) throws IOException;
+    }
+
+    private record VariantSize(String name, int maxEdge) {
+    }
+
+    public record EncodedVariant(String name, String extension, String contentType, int width, int height, byte[] data) {
+    }
+}
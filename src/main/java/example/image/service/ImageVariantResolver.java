@@ -0,0 +1,189 @@
+package example.image.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import example.domain.images.Image;
+import example.domain.images.ImageVariant;
+import example.domain.images.repository.ImageRepository;
+import example.domain.images.repository.ImageVariantRepository;
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+import example.image.service.ImageVariantGenerator.EncodedVariant;
+import example.image.storage.ImageStorage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * [요청 시 변환본 생성/조회]
+ * - 요청 크기/형식의 변환본을 처음 요청될 때 원본 S3 객체로 생성하여 결정적 키({uuid}_{w}x{h}.{ext})로 S3에 저장, DB에 기록
+ * - 이후 요청은 저장된 S3 객체로 응답, 자주 요청되는 변환본은 노드 로컬 LRU(바이트 크기 기준)에서 바로 응답
+ * - 같은 변환본에 대한 동시 요청은 하나의 생성 작업을 공유 (Caffeine AsyncCache: 키별 진행 중 future 공유)
+ * - 업로드 시 생성한 변환본(thumbnail 등)은 이름으로 조회 (저장소가 서명 URL을 지원하지 않을 때 응답의 변환본 URL)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantResolver {
+
+    private final ImageStorage imageStorage;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ImageRepository imageRepository;
+    private final ImageVariantRepository imageVariantRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Qualifier("imageCacheLoadExecutor")
+    private final ExecutorService imageCacheLoadExecutor;
+
+    @Value("${image.variant.on-demand.allowed-sizes:160x0,320x0,640x0,1280x0,160x160,320x320,640x640}")
+    private Set<String> allowedSizes;
+
+    @Value("${image.variant.on-demand.cache-size:256MB}")
+    private DataSize cacheSize;
+
+    @Value("${image.variant.on-demand.cache-expire-after-access:1h}")
+    private Duration cacheExpireAfterAccess;
+
+    private AsyncCache<VariantRequest, EncodedVariant> variantCache;
+
+    @PostConstruct
+    void initVariantCache() {
+        variantCache = Caffeine.newBuilder()
+                .maximumWeight(cacheSize.toBytes())
+                .weigher((VariantRequest request, EncodedVariant variant) -> variant.data().length)
+                .expireAfterAccess(cacheExpireAfterAccess)
+                .executor(imageCacheLoadExecutor)
+                .buildAsync();
+    }
+
+    /**
+     * [public 메서드]
+     * - width x height 영역 안에 들어가는 변환본 조회 (0이면 해당 축 제한 없음), 없으면 생성
+     * - 허용된 크기(image.variant.on-demand.allowed-sizes)만 요청 가능, 그 외 크기는 400 (크기 조합별 생성/저장 비용 증폭 방지)
+     * - 로컬 LRU -> S3 저장본 -> 원본으로 생성 순서로 조회, 실패한 생성 작업은 캐시에 남지 않음
+     */
+    public EncodedVariant resolve(Long imageId, int width, int height, String format) {
+        String variantFormat = format.toLowerCase().equals("jpg") ? "jpeg" : format.toLowerCase();
+        if (!allowedSizes.contains(width + "x" + height)
+                || !imageVariantGenerator.isSupportedFormat(variantFormat)) {
+            throw new CustomApplicationException(ErrorCode.INVALID_VARIANT_REQUEST);
+        }
+
+        return get(new VariantRequest(imageId, null, width, height, variantFormat), this::load);
+    }
+
+    /**
+     * [public 메서드]
+     * - 업로드 시 생성한 변환본(image.variant.sizes의 이름) 조회, 업로드 시 생성되지 않은 이미지면 404
+     * - 요청 크기 변환본과 같은 로컬 LRU 사용
+     */
+    public EncodedVariant resolveNamed(Long imageId, String name) {
+        if (!imageVariantGenerator.getVariantNames().contains(name)) {
+            throw new CustomApplicationException(ErrorCode.INVALID_VARIANT_REQUEST);
+        }
+        return get(new VariantRequest(imageId, name, 0, 0, null), this::loadNamed);
+    }
+
+    // 로컬 LRU 조회, 없으면 로딩 (실패한 로딩 작업은 캐시에 남지 않음)
+    private EncodedVariant get(VariantRequest request, Function<VariantRequest, EncodedVariant> loader) {
+        try {
+            return variantCache.get(request, loader).join();
+        } catch (RejectedExecutionException exception) {
+            // 캐시 로딩 대기열 포화
+            throw new CustomApplicationException(ErrorCode.TOO_MANY_IMAGE_LOADS);
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof CustomApplicationException cause) throw cause;
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+    }
+
+    /**
+     * [private 메서드]
+     * - 변환본 로딩 (키별로 한 번만 실행)
+     */
+    private EncodedVariant load(VariantRequest request) {
+        // [Step 1] 원본 이미지 조회
+        Image image = imageRepository.findById(request.imageId())
+                .orElseThrow(() -> new CustomApplicationException(ErrorCode.NOT_FOUND_IMAGE));
+        String extension = request.format().equals("jpeg") ? "jpg" : request.format();
+        String variant = request.width() + "x" + request.height() + "." + extension;
+        String variantName = image.getName().substring(0, image.getName().lastIndexOf(".")) + "_" + variant;
+
+        // [Step 2] 이미 생성된 변환본이면 S3 저장본 응답
+        Optional<ImageVariant> storedVariant = imageVariantRepository.findByImageIdAndVariant(image.getId(), variant);
+        if (storedVariant.isPresent()) {
+            Optional<byte[]> data = imageStorage.getBytes(storedVariant.get().getKey());
+            if (data.isPresent()) {
+                return new EncodedVariant(variant, extension, "image/" + request.format(),
+                        storedVariant.get().getWidth(), storedVariant.get().getHeight(), data.get());
+            }
+            log.warn("DB에 기록된 변환본이 S3에 없어 다시 생성합니다. (key: {})", storedVariant.get().getKey());
+        }
+
+        // [Step 3] 원본으로 변환본 생성 (처리 전용 실행기, 포화 시 503)
+        EncodedVariant rendered;
+        try (InputStream original = imageStorage.get(image.getKey())
+                .orElseThrow(() -> new CustomApplicationException(ErrorCode.NOT_FOUND_IMAGE))) {
+            rendered = imageVariantGenerator.render(original, request.width(), request.height(), request.format());
+        } catch (CustomApplicationException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+        if (rendered == null) throw new CustomApplicationException(ErrorCode.UNSUPPORTED_IMAGE);
+
+        // [Step 4] S3 저장 후 DB 기록 (이후 요청, 다른 노드는 저장본 사용)
+        imageStorage.put(image.getPath() + variantName, rendered.contentType(),
+                new ByteArrayInputStream(rendered.data()), rendered.data().length);
+        // 다른 노드가 같은 변환본을 먼저 기록했으면 (image_id, variant) 유니크 제약 위반, 같은 키의 S3 객체이므로 기록 생략
+        try {
+            transactionTemplate.executeWithoutResult(status -> imageVariantRepository.saveAndFlush(new ImageVariant(
+                    imageRepository.getReferenceById(image.getId()),
+                    variant,
+                    image.getPath(),
+                    variantName,
+                    rendered.width(),
+                    rendered.height()
+            )));
+        } catch (DataIntegrityViolationException exception) {
+            log.debug("이미 기록된 변환본입니다. (image: {}, variant: {})", image.getId(), variant);
+        }
+        return rendered;
+    }
+
+    /**
+     * [private 메서드]
+     * - 업로드 시 생성한 변환본 로딩 (키별로 한 번만 실행), 형식은 저장된 변환본 명의 확장자 사용
+     */
+    private EncodedVariant loadNamed(VariantRequest request) {
+        ImageVariant storedVariant = imageVariantRepository.findByImageIdAndVariant(request.imageId(), request.name())
+                .orElseThrow(() -> new CustomApplicationException(ErrorCode.NOT_FOUND_IMAGE));
+        byte[] data = imageStorage.getBytes(storedVariant.getKey())
+                .orElseThrow(() -> new CustomApplicationException(ErrorCode.NOT_FOUND_IMAGE));
+        String extension = storedVariant.getName().substring(storedVariant.getName().lastIndexOf(".") + 1);
+        return new EncodedVariant(request.name(), extension, "image/" + (extension.equals("jpg") ? "jpeg" : extension),
+                storedVariant.getWidth(), storedVariant.getHeight(), data);
+    }
+
+    // name이 있으면 업로드 시 생성한 변환본, 없으면 요청 크기/형식 변환본
+    private record VariantRequest(Long imageId, String name, int width, int height, String format) {
+    }
+}
@@ -0,0 +1,98 @@
+package example.image.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [고아 이미지 정리 작업]
+ * - 작업 스레드가 청크마다 진행 상황을 기록하고, 요청 스레드가 조회/취소하므로 모든 상태는 스레드 안전하게 관리
+ */
+public class OrphanCleanupJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final LocalDateTime threshold;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private volatile LocalDateTime finishedAt;
+    private volatile OrphanCleanupJobStatus status = OrphanCleanupJobStatus.RUNNING;
+    private volatile boolean cancelRequested;
+
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong s3Deleted = new AtomicLong();
+    private final AtomicLong dbDeleted = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    OrphanCleanupJob(LocalDateTime threshold) {
+        this.threshold = threshold;
+    }
+
+    // 청크 처리 결과 누적
+    void recordChunk(long scannedCount, long s3DeletedCount, long dbDeletedCount, long failedCount) {
+        scanned.addAndGet(scannedCount);
+        s3Deleted.addAndGet(s3DeletedCount);
+        dbDeleted.addAndGet(dbDeletedCount);
+        failed.addAndGet(failedCount);
+    }
+
+    // 취소 요청, 작업 스레드는 다음 청크를 시작하기 전에 확인하고 중단
+    void requestCancel() {
+        cancelRequested = true;
+    }
+
+    void finish(OrphanCleanupJobStatus status) {
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    public boolean isRunning() {
+        return status == OrphanCleanupJobStatus.RUNNING;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    // 초당 DB 삭제 건수 (진행 중이면 현재까지 기준)
+    public double getThroughput() {
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long elapsedMillis = Math.max(Duration.between(startedAt, end).toMillis(), 1);
+        return dbDeleted.get() * 1000.0 / elapsedMillis;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public LocalDateTime getThreshold() {
+        return threshold;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public OrphanCleanupJobStatus getStatus() {
+        return status;
+    }
+
+    public long getScanned() {
+        return scanned.get();
+    }
+
+    public long getS3Deleted() {
+        return s3Deleted.get();
+    }
+
+    public long getDbDeleted() {
+        return dbDeleted.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+}
@@ -0,0 +1,145 @@
+package example.image.service;
+
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [고아 이미지 정리 작업 관리]
+ * - 정리 작업을 백그라운드 스레드에서 실행하고 작업 ID로 진행 상황 조회/취소
+ * - 노드당 동시에 하나의 작업만 실행, 실행 중에 들어온 요청(수동/스케줄)은 새 작업을 만들지 않고 실행 중인 작업을 반환
+ *   (취소 요청된 작업에는 합치지 않고 새 작업을 만들어 취소 중인 작업 다음에 실행)
+ * - 노드 간 중복 처리는 OrphanImageCleaner의 파티션 잠금이 방지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanCleanupJobManager {
+
+    private static final int MAX_JOB_HISTORY = 20; // 조회를 위해 보관하는 최근 작업 수
+
+    private final OrphanImageCleaner orphanImageCleaner;
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("orphan-cleanup").factory());
+    private final ReentrantLock lock = new ReentrantLock(); // 가상 스레드 고정(pinning)을 피하기 위해 synchronized 대신 사용
+    private final Map<String, OrphanCleanupJob> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, OrphanCleanupJob> eldest) {
+            return size() > MAX_JOB_HISTORY && !eldest.getValue().isRunning();
+        }
+    };
+    private OrphanCleanupJob runningJob;
+
+    /**
+     * [public 메서드]
+     * - 정리 작업 시작, 이미 실행 중인 작업이 있으면 그 작업을 반환 (중복 실행 없음)
+     * - 실행 중인 작업이 취소 요청된 상태면 새 작업을 만들어 반환 (단일 스레드 실행기에서 취소 중인 작업이 끝난 뒤 실행)
+     */
+    public OrphanCleanupJob submit(LocalDateTime threshold) {
+        lock.lock();
+        try {
+            if (runningJob != null && !runningJob.isCancelRequested()) return runningJob;
+
+            OrphanCleanupJob job = new OrphanCleanupJob(threshold);
+            jobs.put(job.getId(), job);
+            runningJob = job;
+            executor.execute(() -> run(job));
+            return job;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * [public 메서드]
+     * - 작업 ID로 작업 조회
+     */
+    public OrphanCleanupJob find(String jobId) {
+        lock.lock();
+        try {
+            OrphanCleanupJob job = jobs.get(jobId);
+            if (job == null) throw new CustomApplicationException(ErrorCode.NOT_FOUND_CLEANUP_JOB);
+            return job;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * [public 메서드]
+     * - 작업 취소 요청, 진행 중인 청크까지 처리한 뒤 중단
+     */
+    public OrphanCleanupJob cancel(String jobId) {
+        OrphanCleanupJob job = find(jobId);
+        lock.lock();
+        try {
+            if (job.isRunning()) job.requestCancel();
+        } finally {
+            lock.unlock();
+        }
+        return job;
+    }
+
+    private void run(OrphanCleanupJob job) {
+        long startedAt = System.nanoTime();
+        try {
+            orphanImageCleaner.clean(job);
+            finish(job, job.isCancelRequested() ? OrphanCleanupJobStatus.CANCELLED : OrphanCleanupJobStatus.COMPLETED);
+            log.info("고아 이미지 정리 작업 종료 (jobId: {}, status: {}, 조회: {}개, 삭제: {}개, 실패: {}개)",
+                    job.getId(), job.getStatus(), job.getScanned(), job.getDbDeleted(), job.getFailed());
+        } catch (Exception exception) {
+            finish(job, OrphanCleanupJobStatus.FAILED);
+            log.error("고아 이미지 정리 작업 실패 (jobId: {})", job.getId(), exception);
+        } finally {
+            if (job.isRunning()) finish(job, OrphanCleanupJobStatus.FAILED); // Error 등으로 종료 처리 없이 빠져나온 경우
+
+            // 작업 소요 시간 (status: COMPLETED | CANCELLED | FAILED)
+            Timer.builder("image.cleanup.duration")
+                    .description("고아 이미지 정리 작업 소요 시간")
+                    .tag("status", job.getStatus().name())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * [private 메서드]
+     * - 종료 상태 기록과 실행 중 작업 해제를 같은 잠금 안에서 처리
+     * - 종료 상태를 조회한 요청이 바로 새 작업을 제출하면 종료된 작업이 아닌 새 작업을 받음
+     * - 취소 요청 후 제출된 새 작업이 이미 실행 중 작업으로 등록되어 있으면 해제하지 않음
+     */
+    private void finish(OrphanCleanupJob job, OrphanCleanupJobStatus status) {
+        lock.lock();
+        try {
+            job.finish(status);
+            if (runningJob == job) runningJob = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lock.lock();
+        try {
+            if (runningJob != null) runningJob.requestCancel();
+        } finally {
+            lock.unlock();
+        }
+        executor.shutdown();
+    }
+}
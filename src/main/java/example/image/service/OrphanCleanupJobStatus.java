@@ -0,0 +1,8 @@
+package example.image.service;
+
+public enum OrphanCleanupJobStatus {
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+}
@@ -0,0 +1,224 @@
+package example.image.service;
+
+import example.domain.images.StoredObject;
+import example.domain.images.repository.dto.OrphanImage;
+import example.global.lock.SchedulerLease;
+import example.global.lock.SchedulerLockManager;
+import example.image.service.ImageService.DeletedImages;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanImageCleaner {
+
+    private static final String LOCK_NAME_PREFIX = "orphan-image-cleanup-";
+    private static final String STORED_OBJECT_LOCK_NAME = "stored-object-cleanup";
+    private static final String PENDING_DELETION_LOCK_NAME = "pending-object-deletion";
+
+    private final ImageService imageService;
+    private final SchedulerLockManager schedulerLockManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${image.cleanup.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${image.cleanup.partitions:1}")
+    private int partitionCount;
+
+    @Value("${image.cleanup.lease-time:10m}")
+    private Duration leaseTime;
+
+    /**
+     * [public 메서드]
+     * - 고아 이미지를 id 파티션 단위로 정리, 파티션마다 DB 잠금을 획득한 노드만 해당 파티션을 처리
+     * - partitions = 1 이면 한 노드만 전체를 정리 (리더 선출), 1보다 크면 여러 노드가 파티션을 나눠 병렬 정리
+     * - 다른 노드가 처리 중인 파티션은 기다리지 않고 건너뜀 (스케줄/수동 실행이 겹쳐도 중복 삭제 없음)
+     * - 진행 상황은 job에 청크 단위로 기록, 취소 요청 시 다음 청크를 시작하지 않고 종료
+     * - 파티션 정리 전 이전 실행에서 남은 저장소 삭제 대기 키 재시도, 파티션 정리 후 참조가 0이 된 저장 객체 정리
+     */
+    public void clean(OrphanCleanupJob job) {
+        retryPendingObjectDeletions(job);
+
+        for (int partition = 0; partition < partitionCount && !job.isCancelRequested(); partition++) {
+            Optional<SchedulerLease> lease = schedulerLockManager.tryAcquire(LOCK_NAME_PREFIX + partition, leaseTime);
+            if (lease.isEmpty()) {
+                log.debug("다른 노드가 고아 이미지 파티션을 정리 중입니다. (partition: {})", partition);
+                continue;
+            }
+
+            try {
+                cleanPartition(job, partition, lease.get());
+            } finally {
+                lease.get().release();
+            }
+        }
+
+        if (!job.isCancelRequested()) cleanUnreferencedObjects(job);
+    }
+
+    /**
+     * [private 메서드]
+     * - 한 파티션의 고아 이미지를 (createdAt, id) 키셋 기준 청크 단위로 정리 (전체 목록을 메모리에 올리지 않고, 긴 트랜잭션을 만들지 않음)
+     * - 청크마다: 조회 -> 여전히 상품과 연결되지 않은 이미지만 잠금 후 DB 삭제 + 저장소 삭제 대기 기록 (커밋) -> 저장소 삭제 -> 잠금 연장
+     * - 저장소 삭제는 DB 삭제가 커밋된 이미지의 키만 대상으로 함 (조회 이후 상품에 연결된 이미지의 객체는 삭제하지 않음)
+     * - 저장소 삭제에 실패한 키는 삭제 대기로 남아 다음 실행 때 다시 시도
+     * - 저장 객체를 공유하는 이미지는 DB 삭제와 참조 감소만 수행 (S3 객체는 저장 객체 정리에서 제거)
+     */
+    private void cleanPartition(OrphanCleanupJob job, int partition, SchedulerLease lease) {
+        OrphanImage cursor = null;
+
+        while (!job.isCancelRequested()) {
+            // [Step 1] 청크 조회
+            List<OrphanImage> orphanImages = imageService.findOldUnlinkedImages(job.getThreshold(), cursor, chunkSize, partition, partitionCount);
+            if (orphanImages.isEmpty()) break;
+            cursor = orphanImages.get(orphanImages.size() - 1);
+
+            // [Step 2] 여전히 상품과 연결되지 않은 이미지만 DB 삭제, 삭제한 이미지의 저장소 키는 같은 트랜잭션에서 삭제 대기로 기록 (청크 단위 커밋)
+            DeletedImages deletedImages = imageService.deleteUnlinkedImages(orphanImages.stream().map(OrphanImage::getId).toList());
+
+            // [Step 3] 커밋 이후 저장소 삭제, 성공한 키만 삭제 대기에서 제거
+            int failed = deleteObjects(deletedImages.objectKeys());
+            job.recordChunk(orphanImages.size(), deletedImages.objectKeys().size() - failed, deletedImages.count(), failed);
+            countOrphans("found", orphanImages.size());
+            countOrphans("deleted", deletedImages.count());
+
+            log.debug("고아 이미지 청크 정리 (partition: {}, lastId: {}, 조회: {}개, 삭제: {}개, 저장소 삭제 실패: {}개)",
+                    partition, cursor.getId(), orphanImages.size(), deletedImages.count(), failed);
+            if (orphanImages.size() < chunkSize) break;
+
+            // [Step 4] 잠금 연장, 잠금을 잃었다면 (만료 후 다른 노드가 획득) 이 파티션 작업 중단
+            if (!lease.extend()) {
+                log.warn("고아 이미지 정리 잠금을 잃어 파티션 작업을 중단합니다. (partition: {})", partition);
+                break;
+            }
+        }
+    }
+
+    /**
+     * [private 메서드]
+     * - 이전 실행에서 저장소 삭제에 실패했거나 커밋 후 삭제 전에 중단된 키를 키 순 청크 단위로 다시 삭제, 잠금을 획득한 한 노드만 실행
+     * - 대상 이미지 행은 이미 삭제되었으므로 같은 키가 다시 참조될 일이 없음 (키는 UUID 기반)
+     */
+    private void retryPendingObjectDeletions(OrphanCleanupJob job) {
+        Optional<SchedulerLease> lease = schedulerLockManager.tryAcquire(PENDING_DELETION_LOCK_NAME, leaseTime);
+        if (lease.isEmpty()) {
+            log.debug("다른 노드가 삭제 대기 객체를 정리 중입니다.");
+            return;
+        }
+
+        try {
+            String cursor = "";
+            while (!job.isCancelRequested()) {
+                List<String> keys = imageService.findPendingObjectDeletions(cursor, chunkSize);
+                if (keys.isEmpty()) break;
+                cursor = keys.get(keys.size() - 1);
+
+                int failed = deleteObjects(keys);
+                job.recordChunk(0, keys.size() - failed, 0, failed);
+                if (keys.size() < chunkSize) break;
+
+                if (!lease.get().extend()) {
+                    log.warn("삭제 대기 객체 정리 잠금을 잃어 작업을 중단합니다.");
+                    break;
+                }
+            }
+        } finally {
+            lease.get().release();
+        }
+    }
+
+    /**
+     * [private 메서드]
+     * - DB 삭제가 커밋된 저장소 객체 삭제, 성공한 키는 삭제 대기에서 제거, 실패한 키 수 반환
+     */
+    private int deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) return 0;
+        Set<String> failedKeys = imageService.deleteObjects(keys);
+        imageService.completeObjectDeletions(keys.stream().filter(key -> !failedKeys.contains(key)).toList());
+        countObjects("deleted", keys.size() - failedKeys.size());
+        countObjects("failed", failedKeys.size());
+        return failedKeys.size();
+    }
+
+    /**
+     * [private 메서드]
+     * - 참조가 0이 된 저장 객체를 hash 키셋 기준 청크 단위로 정리, 잠금을 획득한 한 노드만 실행
+     * - 저장 객체마다: 키 접두사로 S3 객체(원본, 변환본) 조회 -> S3 삭제 -> 모두 성공하면 행 삭제 (그 사이 다시 참조되었으면 유지)
+     * - S3 삭제에 실패한 저장 객체는 행을 남겨 다음 실행 때 다시 시도
+     */
+    private void cleanUnreferencedObjects(OrphanCleanupJob job) {
+        Optional<SchedulerLease> lease = schedulerLockManager.tryAcquire(STORED_OBJECT_LOCK_NAME, leaseTime);
+        if (lease.isEmpty()) {
+            log.debug("다른 노드가 저장 객체를 정리 중입니다.");
+            return;
+        }
+
+        try {
+            String cursor = "";
+            while (!job.isCancelRequested()) {
+                // [Step 1] 청크 조회
+                List<StoredObject> storedObjects = imageService.findUnreferencedObjects(cursor, chunkSize);
+                if (storedObjects.isEmpty()) break;
+                cursor = storedObjects.get(storedObjects.size() - 1).getHash();
+
+                // [Step 2] 저장 객체별 S3 객체 삭제, 모두 성공하면 행 삭제
+                for (StoredObject storedObject : storedObjects) {
+                    List<String> keys = imageService.listObjectKeys(storedObject.getKeyPrefix());
+                    Set<String> failedKeys = keys.isEmpty() ? Set.of() : imageService.deleteObjects(keys);
+                    if (failedKeys.isEmpty()) imageService.deleteUnreferencedObject(storedObject.getHash());
+                    job.recordChunk(0, keys.size() - failedKeys.size(), 0, failedKeys.size());
+                    countStoredObject(failedKeys.isEmpty() ? "deleted" : "failed");
+                }
+                if (storedObjects.size() < chunkSize) break;
+
+                // [Step 3] 잠금 연장, 잠금을 잃었다면 작업 중단
+                if (!lease.get().extend()) {
+                    log.warn("저장 객체 정리 잠금을 잃어 작업을 중단합니다.");
+                    break;
+                }
+            }
+        } finally {
+            lease.get().release();
+        }
+    }
+
+    // 고아 이미지 처리 건수 (result: found | deleted)
+    private void countOrphans(String result, long count) {
+        if (count <= 0) return;
+        Counter.builder("image.cleanup.orphans")
+                .description("고아 이미지 정리 건수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    // 고아 이미지의 저장소 객체 삭제 건수 (result: deleted | failed), failed는 삭제 대기로 남아 다음 실행 때 재시도
+    private void countObjects(String result, long count) {
+        if (count <= 0) return;
+        Counter.builder("image.cleanup.objects")
+                .description("고아 이미지의 저장소 객체 삭제 건수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    // 참조가 0이 된 저장 객체 처리 건수 (result: deleted | failed)
+    private void countStoredObject(String result) {
+        Counter.builder("image.cleanup.stored-objects")
+                .description("참조가 0이 된 저장 객체 정리 건수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
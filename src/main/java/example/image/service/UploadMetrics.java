@@ -0,0 +1,85 @@
+package example.image.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * [업로드 메트릭]
+ * - 업로드 단계별 소요 시간 (image.upload.stage, stage: validate | store | save), Prometheus 히스토그램 버킷 포함
+ *   1. validate: 파일 앞부분(헤더) 읽기, 실제 형식/해상도 검증
+ *   2. store: 원본 저장소 전송 (변환본 전송 제외)
+ *   3. save: 저장 객체 참조 등록 + 이미지 insert 요청 (batch insert는 커밋 시점에 flush 되므로 커밋 시간은 제외)
+ * - 저장소로 전송한 원본 바이트 수 (image.upload.bytes, rate()로 노드 전체 초당 처리량 계산)
+ * - 업로드 당 전송 속도 (image.upload.throughput, bytes/s)
+ */
+@Component
+@RequiredArgsConstructor
+public class UploadMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private Timer validateTimer;
+    private Timer storeTimer;
+    private Timer saveTimer;
+    private Counter uploadedBytes;
+    private DistributionSummary throughput;
+
+    @PostConstruct
+    void init() {
+        validateTimer = stageTimer("validate");
+        storeTimer = stageTimer("store");
+        saveTimer = stageTimer("save");
+        uploadedBytes = Counter.builder("image.upload.bytes")
+                .description("저장소로 전송한 원본 이미지 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        throughput = DistributionSummary.builder("image.upload.throughput")
+                .description("업로드 당 원본 전송 속도")
+                .baseUnit("bytes/s")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder("image.upload.stage")
+                .description("업로드 단계별 소요 시간")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * [public 메서드]
+     * - 검증 단계 시간 기록 (실패한 검증도 기록)
+     */
+    public <T> T recordValidate(Supplier<T> validation) {
+        return validateTimer.record(validation);
+    }
+
+    /**
+     * [public 메서드]
+     * - 저장 단계 시간, 전송 바이트 수, 전송 속도 기록 (전송이 끝난 뒤 호출)
+     */
+    public void recordStore(long bytes, long elapsedNanos) {
+        storeTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (bytes <= 0) return;
+        uploadedBytes.increment(bytes);
+        throughput.record(bytes * 1_000_000_000.0 / Math.max(elapsedNanos, 1));
+    }
+
+    /**
+     * [public 메서드]
+     * - DB 저장 단계 시간 기록
+     */
+    public <T> T recordSave(Supplier<T> save) {
+        return saveTimer.record(save);
+    }
+}
@@ -0,0 +1,247 @@
+package example.image.storage;
+
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+/**
+ * [파일 시스템 저장소] (image.storage.type=filesystem)
+ * - 노드 로컬 디스크에 키를 상대 경로로 저장 (엣지 캐시 노드, AWS 없이 부하 테스트)
+ * - 저장: FileChannel.transferFrom으로 임시 파일에 기록 후 원자적 이동 (원본이 파일이면 커널 내 복사, 읽는 중에 불완전한 파일이 보이지 않음)
+ * - 조회: 메모리 맵(MappedByteBuffer)으로 읽어 힙 복사 없이 페이지 캐시를 그대로 사용
+ * - MIME 타입은 저장하지 않고 확장자로 결정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "filesystem")
+public class FileSystemImageStorage implements ImageStorage {
+
+    private static final long TRANSFER_CHUNK_SIZE = 8 * 1024 * 1024;
+    private static final String TEMP_FILE_PREFIX = ".upload-";
+
+    @Qualifier("s3AsyncExecutor")
+    private final ExecutorService s3AsyncExecutor;
+
+    @Value("${image.storage.filesystem.root:./storage}")
+    private String root;
+
+    private Path rootPath;
+
+    @PostConstruct
+    void init() throws IOException {
+        rootPath = Paths.get(root).toAbsolutePath().normalize();
+        Files.createDirectories(rootPath);
+    }
+
+    @Override
+    public long put(String key, String contentType, InputStream inputStream, long contentLength) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), TEMP_FILE_PREFIX, ".tmp");
+
+            long written;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                written = transfer(inputStream, channel);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return written;
+        } catch (IOException exception) {
+            deleteQuietly(temp);
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+    }
+
+    // 원본이 파일 스트림이면 파일 채널 간 전송 (커널 내 복사), 아니면 채널로 감싸 전송
+    private long transfer(InputStream inputStream, FileChannel target) throws IOException {
+        ReadableByteChannel source = inputStream instanceof FileInputStream fileInputStream
+                ? fileInputStream.getChannel()
+                : Channels.newChannel(inputStream);
+
+        long position = 0;
+        long transferred;
+        while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+            position += transferred;
+        }
+        return position;
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, String contentType, InputStream inputStream, long contentLength) {
+        return CompletableFuture.runAsync(() -> put(key, contentType, inputStream, contentLength), s3AsyncExecutor);
+    }
+
+    @Override
+    public Optional<StorageObjectMetadata> head(String key) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(resolve(key), BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) return Optional.empty();
+
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            String eTag = "\"" + Long.toHexString(attributes.size()) + "-" + Long.toHexString(lastModified) + "\"";
+            return Optional.of(new StorageObjectMetadata(
+                    attributes.size(), getContentType(key), eTag, attributes.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException exception) {
+            return Optional.empty();
+        } catch (IOException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_READ_FILE);
+        }
+    }
+
+    @Override
+    public Optional<InputStream> get(String key) {
+        return map(key, 0, Long.MAX_VALUE).map(ByteBufferInputStream::new);
+    }
+
+    @Override
+    public Optional<InputStream> getRange(String key, long offset, long length) {
+        return map(key, offset, length).map(ByteBufferInputStream::new);
+    }
+
+    @Override
+    public Optional<byte[]> getBytes(String key) {
+        return map(key, 0, Long.MAX_VALUE).map(buffer -> {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        });
+    }
+
+    /**
+     * - offset부터 최대 length 바이트를 읽기 전용으로 메모리 맵 (채널을 닫아도 매핑은 GC 될 때까지 유효)
+     */
+    private Optional<MappedByteBuffer> map(String key, long offset, long length) {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = Math.min(offset, size);
+            return Optional.of(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(length, size - position)));
+        } catch (NoSuchFileException exception) {
+            return Optional.empty();
+        } catch (IOException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_READ_FILE);
+        }
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) {
+        Path target = resolve(targetKey);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.copy(resolve(sourceKey), target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_DELETE_FILE);
+        }
+    }
+
+    @Override
+    public Set<String> deleteAll(List<String> keys) {
+        Set<String> failedKeys = new HashSet<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException exception) {
+                log.warn("파일 삭제 실패 (key: {})", key, exception);
+                failedKeys.add(key);
+            }
+        }
+        return failedKeys;
+    }
+
+    @Override
+    public CompletableFuture<Set<String>> deleteAllAsync(List<String> keys) {
+        return CompletableFuture.supplyAsync(() -> deleteAll(keys), s3AsyncExecutor);
+    }
+
+    /**
+     * - 접두사가 가리키는 디렉터리 아래 파일 중 키가 접두사로 시작하는 파일 (저장 중인 임시 파일 제외)
+     */
+    @Override
+    public List<String> list(String prefix) {
+        Path prefixPath = resolve(prefix);
+        Path directory = prefix.isEmpty() || prefix.endsWith("/") ? prefixPath : prefixPath.getParent();
+        if (!Files.isDirectory(directory)) return List.of();
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().startsWith(TEMP_FILE_PREFIX))
+                    .map(this::toKey)
+                    .filter(key -> key.startsWith(prefix))
+                    .sorted()
+                    .toList();
+        } catch (IOException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_READ_FILE);
+        }
+    }
+
+    // 키 -> 파일 경로 (루트 밖을 가리키는 키는 거부)
+    private Path resolve(String key) {
+        Path path = rootPath.resolve(key).normalize();
+        if (!path.startsWith(rootPath)) {
+            throw new IllegalArgumentException("저장소 루트를 벗어난 키입니다. (key: " + key + ")");
+        }
+        return path;
+    }
+
+    // 파일 경로 -> 키 (구분자는 '/')
+    private String toKey(Path path) {
+        return rootPath.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    private String getContentType(String key) {
+        return MediaTypeFactory.getMediaType(key)
+                .map(MediaType::toString)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException exception) {
+            log.warn(exception.getMessage(), exception);
+        }
+    }
+}
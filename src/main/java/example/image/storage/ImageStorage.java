@@ -0,0 +1,68 @@
+package example.image.storage;
+
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * [이미지 저장소]
+ * - 원본/변환본 객체 저장, 조회, 삭제, 키는 S3 객체 키와 같은 형식 (path + name)
+ * - 구현체는 image.storage.type으로 선택 (s3: 기본값, filesystem: 노드 로컬 디스크, memory: 부하 테스트/벤치마크용)
+ * - 실패는 CustomApplicationException으로 전달 (저장 IO_EXCEPTION_UPLOAD_FILE, 조회 IO_EXCEPTION_READ_FILE, 삭제 IO_EXCEPTION_DELETE_FILE)
+ * - 전달받은 InputStream은 호출 측에서 닫음
+ */
+public interface ImageStorage {
+
+    // 업로드 객체의 Cache-Control (키는 UUID 기반이라 내용이 바뀌지 않으므로 브라우저/CDN 장기 캐시 허용)
+    String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+
+    // 저장 후 저장한 바이트 수 반환 (contentLength를 모르면 -1)
+    long put(String key, String contentType, InputStream inputStream, long contentLength);
+
+    // 비동기 저장 (요청 스레드를 점유하지 않음)
+    CompletableFuture<Void> putAsync(String key, String contentType, InputStream inputStream, long contentLength);
+
+    // 객체 정보 조회, 없으면 empty
+    Optional<StorageObjectMetadata> head(String key);
+
+    // 객체 본문 조회, 없으면 empty
+    Optional<InputStream> get(String key);
+
+    // offset부터 최대 length 바이트 조회, 없으면 empty
+    Optional<InputStream> getRange(String key, long offset, long length);
+
+    // 객체 본문 전체를 바이트 배열로 조회, 없으면 empty
+    Optional<byte[]> getBytes(String key);
+
+    // 저장소 내부 복사 (본문이 애플리케이션을 거치지 않음)
+    void copy(String sourceKey, String targetKey);
+
+    // 단건 삭제 (없는 키는 무시)
+    void delete(String key);
+
+    // 일괄 삭제, 삭제에 실패한 키 반환
+    Set<String> deleteAll(List<String> keys);
+
+    // 비동기 일괄 삭제, 삭제에 실패한 키 반환
+    CompletableFuture<Set<String>> deleteAllAsync(List<String> keys);
+
+    // 키 접두사로 객체 키 목록 조회
+    List<String> list(String prefix);
+
+    // 클라이언트 직접 업로드용 서명 URL 발급 (지원하지 않는 저장소는 501)
+    default PresignedUpload presignPut(String key, String contentType, long contentLength, Duration expiration) {
+        throw new CustomApplicationException(ErrorCode.UNSUPPORTED_UPLOAD_METHOD);
+    }
+
+    // 조회용 서명 URL 발급 (클라이언트/CDN이 서버를 거치지 않고 직접 조회), 지원하지 않는 저장소는 empty
+    default Optional<String> presignGet(String key, Duration expiration) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,116 @@
+package example.image.storage;
+
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * [메모리 저장소] (image.storage.type=memory)
+ * - 부하 테스트, 벤치마크, 테스트용 (노드 재시작 시 모두 사라짐)
+ * - 메모리 복사만 하므로 비동기 작업도 호출 스레드에서 바로 완료
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "memory")
+public class InMemoryImageStorage implements ImageStorage {
+
+    private final ConcurrentMap<String, StoredBytes> objects = new ConcurrentHashMap<>();
+
+    @Override
+    public long put(String key, String contentType, InputStream inputStream, long contentLength) {
+        try {
+            byte[] data = inputStream.readAllBytes();
+            objects.put(key, new StoredBytes(data, contentType, "\"" + DigestUtils.md5DigestAsHex(data) + "\"", Instant.now()));
+            return data.length;
+        } catch (IOException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, String contentType, InputStream inputStream, long contentLength) {
+        try {
+            put(key, contentType, inputStream, contentLength);
+            return CompletableFuture.completedFuture(null);
+        } catch (CustomApplicationException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    @Override
+    public Optional<StorageObjectMetadata> head(String key) {
+        return Optional.ofNullable(objects.get(key))
+                .map(object -> new StorageObjectMetadata(object.data().length, object.contentType(), object.eTag(), object.lastModified()));
+    }
+
+    @Override
+    public Optional<InputStream> get(String key) {
+        return getBytes(key).map(ByteArrayInputStream::new);
+    }
+
+    @Override
+    public Optional<InputStream> getRange(String key, long offset, long length) {
+        return Optional.ofNullable(objects.get(key)).map(object -> {
+            int position = (int) Math.min(offset, object.data().length);
+            int count = (int) Math.min(length, object.data().length - position);
+            return new ByteArrayInputStream(object.data(), position, count);
+        });
+    }
+
+    @Override
+    public Optional<byte[]> getBytes(String key) {
+        return Optional.ofNullable(objects.get(key)).map(StoredBytes::data);
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) {
+        StoredBytes source = objects.get(sourceKey);
+        if (source == null) {
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+        objects.put(targetKey, new StoredBytes(source.data(), source.contentType(), source.eTag(), Instant.now()));
+    }
+
+    @Override
+    public void delete(String key) {
+        objects.remove(key);
+    }
+
+    @Override
+    public Set<String> deleteAll(List<String> keys) {
+        keys.forEach(objects::remove);
+        return Set.of();
+    }
+
+    @Override
+    public CompletableFuture<Set<String>> deleteAllAsync(List<String> keys) {
+        return CompletableFuture.completedFuture(deleteAll(keys));
+    }
+
+    @Override
+    public List<String> list(String prefix) {
+        return objects.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .sorted()
+                .toList();
+    }
+
+    // 저장된 객체 (본문은 변경하지 않으므로 복사 없이 공유)
+    private record StoredBytes(byte[] data, String contentType, String eTag, Instant lastModified) {
+    }
+}
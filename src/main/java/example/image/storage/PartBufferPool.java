@@ -0,0 +1,48 @@
+package example.image.storage;
+
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [멀티파트 업로드 파트 버퍼 풀]
+ * - 노드 전체에서 동시에 사용할 수 있는 파트 버퍼 수를 제한하여 업로드 메모리 상한을 고정
+ * - 버퍼는 필요할 때 생성하고 반납된 버퍼는 재사용
+ */
+class PartBufferPool {
+
+    private final int bufferSize;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+
+    PartBufferPool(int bufferSize, int poolSize) {
+        this.bufferSize = bufferSize;
+        this.permits = new Semaphore(poolSize, true);
+    }
+
+    /**
+     * - 사용 가능한 버퍼가 없으면 timeout 동안 대기, 시간 초과 시 업로드 거절
+     */
+    byte[] acquire(Duration timeout) {
+        try {
+            if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new CustomApplicationException(ErrorCode.TOO_MANY_UPLOADS);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+
+        byte[] buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    void release(byte[] buffer) {
+        buffers.offer(buffer);
+        permits.release();
+    }
+}
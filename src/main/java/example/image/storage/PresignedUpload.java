@@ -0,0 +1,11 @@
+package example.image.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * [직접 업로드 서명 결과]
+ * - 클라이언트는 method, url로 요청하며 headers를 그대로 포함해야 함 (서명에 포함된 헤더)
+ */
+public record PresignedUpload(String method, String url, Map<String, String> headers, Instant expiration) {
+}
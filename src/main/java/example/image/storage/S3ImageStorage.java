@@ -0,0 +1,265 @@
+package example.image.storage;
+
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * [S3 저장소] (image.storage.type=s3, 기본값)
+ * - 동기 저장은 S3MultipartUploader (threshold 이상이면 병렬 멀티파트), 비동기 저장/일괄 삭제는 Netty 기반 S3AsyncClient
+ * - 일괄 삭제는 DeleteObjects 최대 키 수(1000) 단위로 나눠 동시에 요청
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ImageStorage implements ImageStorage {
+
+    private static final int MAX_DELETE_OBJECTS_KEYS = 1000; // S3 DeleteObjects 요청 당 최대 키 수
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3MultipartUploader s3MultipartUploader;
+    private final S3Presigner s3Presigner;
+
+    @Qualifier("s3AsyncExecutor")
+    private final ExecutorService s3AsyncExecutor;
+
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+
+    @Override
+    public long put(String key, String contentType, InputStream inputStream, long contentLength) {
+        return s3MultipartUploader.upload(key, contentType, inputStream, contentLength);
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, String contentType, InputStream inputStream, long contentLength) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName) // 버킷 이름
+                .key(key) // 저장할 파일 이름
+                .contentType(contentType) // 이미지 MIME 타입
+                .cacheControl(IMMUTABLE_CACHE_CONTROL) // 브라우저/CDN 장기 캐시
+                .build();
+
+        // 요청 본문은 s3AsyncExecutor에서 읽어 전송
+        return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromInputStream(inputStream, contentLength, s3AsyncExecutor))
+                .<Void>thenApply(response -> null)
+                .exceptionally(throwable -> {
+                    log.error(throwable.getMessage(), throwable);
+                    throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+                });
+    }
+
+    @Override
+    public Optional<StorageObjectMetadata> head(String key) {
+        try {
+            HeadObjectResponse response = s3Client.headObject(builder -> builder.bucket(bucketName).key(key));
+            return Optional.of(new StorageObjectMetadata(
+                    response.contentLength(), response.contentType(), response.eTag(), response.lastModified()));
+        } catch (S3Exception exception) {
+            if (exception.statusCode() == HttpStatus.NOT_FOUND.value()) return Optional.empty();
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_READ_FILE);
+        } catch (SdkException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_READ_FILE);
+        }
+    }
+
+    @Override
+    public Optional<InputStream> get(String key) {
+        return getObject(GetObjectRequest.builder().bucket(bucketName).key(key).build());
+    }
+
+    @Override
+    public Optional<InputStream> getRange(String key, long offset, long length) {
+        return getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build());
+    }
+
+    @Override
+    public Optional<byte[]> getBytes(String key) {
+        try {
+            return Optional.of(s3Client.getObjectAsBytes(builder -> builder.bucket(bucketName).key(key)).asByteArray());
+        } catch (NoSuchKeyException exception) {
+            return Optional.empty();
+        } catch (SdkException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_READ_FILE);
+        }
+    }
+
+    private Optional<InputStream> getObject(GetObjectRequest getObjectRequest) {
+        try {
+            return Optional.of(s3Client.getObject(getObjectRequest));
+        } catch (NoSuchKeyException exception) {
+            return Optional.empty();
+        } catch (SdkException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_READ_FILE);
+        }
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) {
+        try {
+            s3Client.copyObject(builder -> builder
+                    .sourceBucket(bucketName)
+                    .sourceKey(sourceKey)
+                    .destinationBucket(bucketName)
+                    .destinationKey(targetKey)); // Content-Type, Cache-Control은 원본 객체의 메타데이터를 그대로 복사
+        } catch (SdkException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            s3Client.deleteObject(builder -> builder.bucket(bucketName).key(key));
+        } catch (SdkException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_DELETE_FILE);
+        }
+    }
+
+    @Override
+    public Set<String> deleteAll(List<String> keys) {
+        return deleteAllAsync(keys).join();
+    }
+
+    /**
+     * - 요청 자체가 실패한 배치는 모든 키를 실패로 처리, 키 단위 실패는 응답의 errors로 전달됨
+     */
+    @Override
+    public CompletableFuture<Set<String>> deleteAllAsync(List<String> keys) {
+        List<CompletableFuture<List<String>>> deleteBatches = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_OBJECTS_KEYS) {
+            List<String> batchKeys = keys.subList(from, Math.min(from + MAX_DELETE_OBJECTS_KEYS, keys.size()));
+            deleteBatches.add(s3AsyncClient.deleteObjects(createDeleteObjectsRequest(batchKeys))
+                    .thenApply(response -> {
+                        response.errors().forEach(error -> log.warn("S3 객체 삭제 실패 (key: {}, code: {}, message: {})",
+                                error.key(), error.code(), error.message()));
+                        return response.errors().stream().map(S3Error::key).toList();
+                    })
+                    .exceptionally(throwable -> {
+                        log.error("S3 객체 일괄 삭제 요청 실패 ({}개)", batchKeys.size(), throwable);
+                        return batchKeys;
+                    }));
+        }
+
+        return CompletableFuture.allOf(deleteBatches.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> deleteBatches.stream()
+                        .map(CompletableFuture::join)
+                        .flatMap(List::stream)
+                        .collect(Collectors.toSet()));
+    }
+
+    /**
+     * 키 목록을 기반으로 S3에서 파일을 삭제하기 위한 요청 객체 생성
+     */
+    private DeleteObjectsRequest createDeleteObjectsRequest(List<String> keys) {
+        return DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(delete -> delete
+                        .objects(keys.stream()
+                                .map(key -> ObjectIdentifier.builder().key(key).build())
+                                .toList())
+                        .quiet(true) // 응답에 실패한 키만 포함
+                )
+                .build();
+    }
+
+    @Override
+    public List<String> list(String prefix) {
+        try {
+            return s3Client.listObjectsV2Paginator(builder -> builder.bucket(bucketName).prefix(prefix))
+                    .contents()
+                    .stream()
+                    .map(S3Object::key)
+                    .toList();
+        } catch (SdkException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_READ_FILE);
+        }
+    }
+
+    /**
+     * - Content-Type, Content-Length가 서명에 포함되어 S3가 다른 형식/크기의 본문을 거부
+     * - Cache-Control도 서명에 포함되어 클라이언트가 다른 업로드와 같은 값을 보내야 함 (완료 시 복사로 그대로 유지)
+     * - 업로드 요청에 그대로 포함해야 하는 서명 헤더 반환 (host는 URL로 결정되므로 제외)
+     */
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long contentLength, Duration expiration) {
+        PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(builder -> builder
+                .signatureDuration(expiration)
+                .putObjectRequest(request -> request
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .cacheControl(IMMUTABLE_CACHE_CONTROL)));
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        presignedRequest.signedHeaders().forEach((name, values) -> {
+            if (!name.equalsIgnoreCase("host")) headers.put(name, String.join(",", values));
+        });
+        return new PresignedUpload(
+                presignedRequest.httpRequest().method().name(),
+                presignedRequest.url().toString(),
+                headers,
+                presignedRequest.expiration()
+        );
+    }
+
+    /**
+     * - 버킷은 비공개이므로 조회는 서명 URL로만 가능
+     * - 서명은 로컬 계산이며 S3 요청을 보내지 않음 (호출 측 ImageUrlSigner가 유효 기간 동안 결과를 캐싱)
+     */
+    @Override
+    public Optional<String> presignGet(String key, Duration expiration) {
+        return Optional.of(s3Presigner.presignGetObject(builder -> builder
+                        .signatureDuration(expiration)
+                        .getObjectRequest(request -> request.bucket(bucketName).key(key)))
+                .url()
+                .toString());
+    }
+}
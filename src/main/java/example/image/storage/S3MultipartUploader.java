@@ -0,0 +1,280 @@
+package example.image.storage;
+
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3MultipartUploader {
+
+    private final S3Client s3Client;
+
+    @Qualifier("s3UploadExecutor")
+    private final Executor s3UploadExecutor;
+
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+
+    @Value("${aws.s3.multipart.threshold:16MB}")
+    private DataSize threshold;
+
+    @Value("${aws.s3.multipart.part-size:8MB}")
+    private DataSize partSize;
+
+    @Value("${aws.s3.multipart.concurrency:4}")
+    private int concurrency;
+
+    @Value("${aws.s3.multipart.buffer-pool-size:32}")
+    private int bufferPoolSize;
+
+    @Value("${aws.s3.multipart.buffer-wait-timeout:10s}")
+    private Duration bufferWaitTimeout;
+
+    @Value("${aws.s3.multipart.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${spring.servlet.multipart.max-file-size:100MB}")
+    private DataSize maxFileSize;
+
+    private PartBufferPool bufferPool;
+
+    @PostConstruct
+    void initBufferPool() {
+        bufferPool = new PartBufferPool(Math.toIntExact(partSize.toBytes()), bufferPoolSize);
+    }
+
+    /**
+     * [public 메서드]
+     * - InputStream을 S3에 업로드, 업로드된 전체 바이트 수 반환
+     * - contentLength를 알면(>= 0) threshold 미만은 단일 PutObject, 이상은 병렬 멀티파트 업로드
+     * - contentLength를 모르면(-1, 스트리밍 업로드) 첫 파트를 읽어본 뒤 파트 크기 미만이면 단일 PutObject
+     */
+    public long upload(String key, String contentType, InputStream inputStream, long contentLength) {
+        if (contentLength >= 0 && contentLength < threshold.toBytes()) {
+            putObject(key, contentType, RequestBody.fromInputStream(inputStream, contentLength));
+            return contentLength;
+        }
+
+        byte[] buffer = bufferPool.acquire(bufferWaitTimeout);
+        int read;
+        try {
+            read = readPart(inputStream, buffer);
+            if (read < buffer.length) {
+                putObject(key, contentType, RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read));
+                bufferPool.release(buffer);
+                return read;
+            }
+        } catch (RuntimeException exception) {
+            bufferPool.release(buffer);
+            throw exception;
+        }
+        return multipartUpload(key, contentType, inputStream, buffer, read);
+    }
+
+    private void putObject(String key, String contentType, RequestBody requestBody) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(ImageStorage.IMMUTABLE_CACHE_CONTROL)
+                .build();
+
+        s3Client.putObject(putObjectRequest, requestBody);
+    }
+
+    /**
+     * [private 메서드]
+     * - 병렬 멀티파트 업로드
+     * - 업로드 당 동시 전송 파트 수(concurrency)와 노드 전체 파트 버퍼 수(buffer-pool-size)를 제한
+     * - 파트 단위로 재시도하고, 최종 실패 시 진행 중인 파트가 끝나길 기다린 후 abort 하여 S3에 잔여 파트가 남지 않도록 처리
+     */
+    private long multipartUpload(String key, String contentType, InputStream inputStream, byte[] firstBuffer, int firstRead) {
+        // [Step 1] 멀티파트 업로드 시작
+        String uploadId;
+        try {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .cacheControl(ImageStorage.IMMUTABLE_CACHE_CONTROL)
+                    .build()
+            ).uploadId();
+        } catch (RuntimeException exception) {
+            bufferPool.release(firstBuffer);
+            throw exception;
+        }
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicReference<Throwable> partFailure = new AtomicReference<>();
+        List<CompletableFuture<CompletedPart>> partFutures = new ArrayList<>();
+        long totalBytes = 0;
+        try {
+            // [Step 2] 파트를 읽는 대로 병렬 전송 (버퍼는 파트 전송이 끝나면 풀에 반납)
+            byte[] buffer = firstBuffer;
+            int read = firstRead;
+            int partNumber = 1;
+            while (read > 0) {
+                totalBytes += read;
+                if (totalBytes > maxFileSize.toBytes()) {
+                    bufferPool.release(buffer);
+                    throw new CustomApplicationException(ErrorCode.EXCEED_FILE_SIZE);
+                }
+                acquireInFlight(inFlight, buffer);
+                if (partFailure.get() != null) {
+                    inFlight.release();
+                    bufferPool.release(buffer);
+                    throw new CompletionException(partFailure.get());
+                }
+
+                byte[] partBuffer = buffer;
+                int partLength = read;
+                int currentPartNumber = partNumber++;
+                partFutures.add(CompletableFuture
+                        .supplyAsync(() -> uploadPart(key, uploadId, currentPartNumber, partBuffer, partLength), s3UploadExecutor)
+                        .whenComplete((completedPart, throwable) -> {
+                            if (throwable != null) partFailure.compareAndSet(null, throwable);
+                            bufferPool.release(partBuffer);
+                            inFlight.release();
+                        }));
+
+                buffer = bufferPool.acquire(bufferWaitTimeout);
+                try {
+                    read = readPart(inputStream, buffer);
+                } catch (RuntimeException exception) {
+                    bufferPool.release(buffer);
+                    throw exception;
+                }
+            }
+            bufferPool.release(buffer);
+
+            // [Step 3] 모든 파트 전송 완료 대기 후 멀티파트 업로드 완료
+            List<CompletedPart> completedParts = partFutures.stream()
+                    .map(CompletableFuture::join)
+                    .sorted(Comparator.comparing(CompletedPart::partNumber))
+                    .toList();
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build()
+            );
+            return totalBytes;
+
+        } catch (RuntimeException exception) {
+            awaitQuietly(partFutures);
+            abortMultipartUpload(key, uploadId);
+            throw exception;
+        }
+    }
+
+    /**
+     * [private 메서드]
+     * - 파트 단위 재시도 (SDK 재시도를 모두 소진한 실패에 대해 파트만 다시 전송)
+     */
+    private CompletedPart uploadPart(String key, String uploadId, int partNumber, byte[] buffer, int length) {
+        UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) length)
+                .build();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                UploadPartResponse uploadPartResponse = s3Client.uploadPart(
+                        uploadPartRequest, RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length));
+
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(uploadPartResponse.eTag())
+                        .build();
+
+            } catch (SdkException exception) {
+                if (attempt >= maxAttempts) throw exception;
+                log.warn("파트 업로드 재시도 (key: {}, part: {}, attempt: {})", key, partNumber, attempt, exception);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(200L * attempt);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+    }
+
+    private void acquireInFlight(Semaphore inFlight, byte[] buffer) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            bufferPool.release(buffer);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+    }
+
+    private void awaitQuietly(List<CompletableFuture<CompletedPart>> partFutures) {
+        try {
+            CompletableFuture.allOf(partFutures.toArray(CompletableFuture[]::new)).join();
+        } catch (Exception ignored) {
+            // 실패 원인은 호출자에게 이미 전달되므로 여기서는 진행 중인 파트 종료만 대기
+        }
+    }
+
+    private void abortMultipartUpload(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build()
+            );
+        } catch (Exception exception) {
+            log.error("멀티파트 업로드 중단 실패 (key: {}, uploadId: {})", key, uploadId, exception);
+        }
+    }
+
+    /**
+     * [private 메서드]
+     * - 버퍼가 가득 차거나 스트림이 끝날 때까지 읽기, 읽은 바이트 수 반환 (스트림 끝이면 0)
+     */
+    private int readPart(InputStream inputStream, byte[] buffer) {
+        try {
+            return inputStream.readNBytes(buffer, 0, buffer.length);
+        } catch (IOException exception) {
+            log.error(exception.getMessage(), exception);
+            throw new CustomApplicationException(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        }
+    }
+}
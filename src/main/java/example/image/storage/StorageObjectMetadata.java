@@ -0,0 +1,10 @@
+package example.image.storage;
+
+import java.time.Instant;
+
+/**
+ * [저장 객체 정보]
+ * - 본문 없이 조회한 크기, MIME 타입, ETag, 수정 시각
+ */
+public record StorageObjectMetadata(long contentLength, String contentType, String eTag, Instant lastModified) {
+}
@@ -1,27 +1,63 @@
 package example.product.controller;
 
 import example.image.controller.dto.ImageResponse;
+import example.product.controller.dto.ProductPageResponse;
 import example.product.controller.dto.ProductRequest;
 import example.product.controller.dto.ProductResponse;
+import example.product.service.ProductDetailJsonCache;
 import example.product.service.ProductService;
+import example.product.service.dto.CachedProductDetail;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/product")
 @RequiredArgsConstructor
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductDetailJsonCache productDetailJsonCache;
 
     @PostMapping
     public ProductResponse<ImageResponse> createProduct(@RequestBody ProductRequest productRequest) {
         return productService.createProduct(productRequest.toCreate());
     }
 
+    // 상품 다건 조회 (GET /api/product?ids=1,2,3)
+    @GetMapping(params = "ids")
+    public List<ProductResponse<ImageResponse>> findProducts(@RequestParam List<Long> ids) {
+        return productService.findProducts(ids);
+    }
+
+    // 상품 목록 조회 (최신순, 응답의 nextCursor를 다음 요청의 cursor로 전달)
+    @GetMapping
+    public ProductPageResponse<ImageResponse> findProductPage(@RequestParam(required = false) Long cursor,
+                                                              @RequestParam(defaultValue = "20") int size
+    ) {
+        return productService.findProductPage(cursor, size);
+    }
+
+    // 캐시된 JSON 바이트를 그대로 응답, If-None-Match가 ETag와 같으면 본문 없이 304 (캐시 hit 시 DB 조회 없음)
     @GetMapping("/{productId}")
-    public ProductResponse<ImageResponse> detailProduct(@PathVariable Long productId) {
-        return productService.detailProduct(productId);
+    public ResponseEntity<byte[]> detailProduct(@PathVariable Long productId,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        CachedProductDetail productDetail = productDetailJsonCache.get(productId);
+        if (productDetail.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(productDetail.getEtag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(productDetail.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(productDetail.getBody());
     }
 
     @PutMapping("/{productId}")
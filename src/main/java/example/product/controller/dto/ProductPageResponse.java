@@ -0,0 +1,20 @@
+package example.product.controller.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductPageResponse<T> {
+
+    private List<ProductResponse<T>> products;
+    private Long nextCursor; // 다음 페이지 요청 시 cursor 값 (마지막 페이지면 null)
+
+    public ProductPageResponse(List<ProductResponse<T>> products, Long nextCursor) {
+        this.products = products;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,50 @@
+package example.product.service;
+
+import example.domain.products.ProductRepository;
+import example.global.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * [상품 상세 캐시 노드 간 무효화]
+ * - 다른 노드에서 수정된 상품을 product.updated_at 워터마크 폴링으로 찾아 로컬 캐시에서 제거
+ * - 늦게 커밋된 트랜잭션의 updated_at이 워터마크보다 과거일 수 있으므로 overlap 만큼 겹쳐서 조회 (중복 제거는 무해)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.cache.invalidation.enabled", havingValue = "true")
+public class ProductCacheInvalidator {
+
+    private final ProductRepository productRepository;
+    private final CacheManager cacheManager;
+
+    @Value("${product.cache.invalidation.overlap:10s}")
+    private Duration overlap;
+
+    private LocalDateTime watermark = LocalDateTime.now();
+
+    @Scheduled(fixedDelayString = "${product.cache.invalidation.poll-interval:5s}")
+    public void evictUpdatedProducts() {
+        List<ProductRepository.UpdatedProduct> updatedProducts = productRepository.findUpdatedSince(watermark.minus(overlap));
+        if (updatedProducts.isEmpty()) return;
+
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.PRODUCT_DETAIL_CACHE));
+        updatedProducts.forEach(updatedProduct -> {
+            cache.evict(updatedProduct.getId());
+            if (updatedProduct.getUpdatedAt().isAfter(watermark)) watermark = updatedProduct.getUpdatedAt();
+        });
+        log.debug("수정된 상품 캐시 제거 : {}개 (watermark: {})", updatedProducts.size(), watermark);
+    }
+}
@@ -0,0 +1,46 @@
+package example.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import example.global.config.CacheConfig;
+import example.product.service.dto.CachedProductDetail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * [상품 상세 JSON 응답 캐시]
+ * - 상품 상세 응답을 직렬화된 UTF-8 바이트 + ETag 형태로 캐싱하여 캐시 hit 시 DB 조회, 응답 조립, Jackson 직렬화를 모두 생략
+ * - 같은 상품에 대한 동시 miss는 한 번만 조회/직렬화 (Caffeine 원자적 로딩)
+ * - 상품 생성/수정 시 ProductService의 @CacheEvict, 다른 노드 수정은 ProductCacheInvalidator가 같은 캐시에서 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductDetailJsonCache {
+
+    private final ProductService productService;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+
+    public CachedProductDetail get(Long productId) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.PRODUCT_DETAIL_CACHE));
+        try {
+            return cache.get(productId, () -> render(productId));
+        } catch (Cache.ValueRetrievalException exception) {
+            // 로딩 중 발생한 예외(상품 없음 등)는 원래 예외로 전달
+            if (exception.getCause() instanceof RuntimeException cause) throw cause;
+            throw exception;
+        }
+    }
+
+    private CachedProductDetail render(Long productId) {
+        try {
+            return new CachedProductDetail(objectMapper.writeValueAsBytes(productService.detailProduct(productId)));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("상품 상세 응답 직렬화 실패 (productId: " + productId + ")", exception);
+        }
+    }
+}
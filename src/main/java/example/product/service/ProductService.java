@@ -1,21 +1,31 @@
 package example.product.service;
 
-import example.domain.images.Image;
+import example.domain.images.repository.dto.ImageInfo;
 import example.domain.products.Product;
+import example.domain.products.ProductQueryRepository;
 import example.domain.products.ProductRepository;
+import example.global.config.CacheConfig;
 import example.global.exception.CustomApplicationException;
 import example.global.exception.ErrorCode;
 import example.image.controller.dto.ImageResponse;
 import example.image.service.ImageService;
+import example.image.service.ImageUrlSigner;
+import example.product.controller.dto.ProductPageResponse;
 import example.product.controller.dto.ProductResponse;
 import example.product.service.dto.ProductCreateInfo;
 import example.product.service.dto.ProductUpdateInfo;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,51 +33,93 @@ import java.util.List;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductQueryRepository productQueryRepository;
     private final ImageService imageService;
+    private final ImageUrlSigner imageUrlSigner;
+
+    @Value("${product.bulk.max-size:100}")
+    private int maxBulkSize;
 
     /**
      * [public 메서드]
      * - 상품 생성
-     * - 이미지 목록이 존재하면 해당 이미지를 조회 후 productId가 할당되지 않은 이미지를 생성된 상품에 매핑
-     * - 이미지의 경우 상품과 매핑된 이미지만 필터링하여 응답
+     * - 이미지 목록이 존재하면 productId가 할당되지 않은 이미지만 생성된 상품에 매핑 (벌크 업데이트)
+     * - 이미지의 경우 상품과 매핑된 이미지만 조회하여 응답 (ImageInfo 프로젝션)
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL_CACHE, key = "#result.id")
     public ProductResponse<ImageResponse> createProduct(ProductCreateInfo productCreateInfo) {
-        // [Step 1] 상품 저장
-        Product product = productRepository.save(Product.create(
+        // [Step 1] 상품 저장 (이미지 벌크 업데이트가 FK로 참조하므로 먼저 insert)
+        Product product = productRepository.saveAndFlush(Product.create(
                 productCreateInfo.getName(),
                 productCreateInfo.getPrice(),
                 productCreateInfo.getDescription()
         ));
 
-        List<Image> images = Collections.emptyList();
+        List<ImageInfo> images = Collections.emptyList();
 
         // [Step 2] 이미지 매핑 (이미지가 존재할 경우에만 처리)
         if (productCreateInfo.getImageIds() != null && !productCreateInfo.getImageIds().isEmpty()) { // 이미지 목록이 비어있지 않으면 처리
-            images = imageService.findAllByImageId(productCreateInfo.getImageIds()); // 이미지 목록 조회
-            images.stream()
-                    .filter(image -> image.getProduct() == null) // 상품과 연결되지 않은 이미지만 필터링
-                    .forEach(image -> image.assignProduct(product)); // 해당 이미지를 상품에 할당
+            imageService.assignUnlinkedImages(product.getId(), productCreateInfo.getImageIds()); // 상품과 연결되지 않은 이미지만 할당
+            images = imageService.findImageByProductId(product.getId());
         }
 
         // [Step 3] 응답 생성 (이미지는 생성되는 상품에 연결된 이미지만 포함)
         return ProductResponse.of(
                 product,
-                images.stream().map(ImageResponse::of).toList()
+                images.stream().map(this::toImageResponse).toList()
         );
     }
 
     /**
      * [public 메서드]
      * - 상품 상세조회 -> 상품 단일 정보, 이미지 list 응답
+     * - API 응답은 ProductDetailJsonCache가 이 결과를 직렬화하여 캐싱 (상품 생성/수정 시 제거)
      */
     public ProductResponse<ImageResponse> detailProduct(Long productId) {
         Product product = findProductById(productId);
-        List<Image> images = imageService.findImageByProductId(product.getId());
+        List<ImageInfo> images = imageService.findImageByProductId(product.getId());
 
         return ProductResponse.of(
                 product,
-                images.stream().map(ImageResponse::of).toList()
+                images.stream().map(this::toImageResponse).toList()
+        );
+    }
+
+    /**
+     * [public 메서드]
+     * - 상품 다건 조회 -> 요청한 ID 순서대로 응답 (존재하지 않는 ID는 제외)
+     * - 상품 1회 + 이미지 1회(IN 쿼리, 변환본 left join) 조회로 상품 수와 관계없이 쿼리 수 고정
+     */
+    public List<ProductResponse<ImageResponse>> findProducts(List<Long> productIds) {
+        List<Long> distinctIds = productIds.stream().distinct().toList();
+        if (distinctIds.size() > maxBulkSize) throw new CustomApplicationException(ErrorCode.EXCEED_PRODUCT_COUNT);
+
+        Map<Long, Product> productsById = productRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return toResponses(distinctIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    /**
+     * [public 메서드]
+     * - 상품 목록 조회 (최신순, 키셋 페이지네이션)
+     * - size + 1개를 조회하여 다음 페이지 존재 여부 판단, 다음 페이지가 있으면 이번 페이지 마지막 상품 ID를 nextCursor로 응답
+     */
+    public ProductPageResponse<ImageResponse> findProductPage(Long cursor, int size) {
+        if (size > maxBulkSize) throw new CustomApplicationException(ErrorCode.EXCEED_PRODUCT_COUNT);
+        int pageSize = Math.max(size, 1);
+
+        List<Product> products = productQueryRepository.findPage(cursor, pageSize + 1);
+        boolean hasNext = products.size() > pageSize;
+        if (hasNext) products = products.subList(0, pageSize);
+
+        return new ProductPageResponse<>(
+                toResponses(products),
+                hasNext ? products.get(products.size() - 1).getId() : null
         );
     }
 
@@ -75,8 +127,10 @@ public class ProductService {
      * [public 메서드]
      * - 상품 수정
      * - 이미지 매핑 null 벌크 업데이트 후 요청 데이터에 imageIds 존재 시 재 매핑 (벌크업데이트)
+     * - 재매핑은 상품과 연결되지 않은 이미지만 대상, 다른 상품에 연결된 이미지가 포함되면 409 (수정 전체 롤백)
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL_CACHE, key = "#productUpdateInfo.id")
     public ProductResponse<ImageResponse> updateProduct(ProductUpdateInfo productUpdateInfo) {
         // [Step 1] 업데이트 할 product 조회
         Product product = findProductById(productUpdateInfo.getId());
@@ -91,20 +145,43 @@ public class ProductService {
         // [Step 3] 기존 이미지 매핑 해제 (기존의 product와 연결된 이미지들의 product를 null로 설정)
         imageService.clearProductFromImages(productUpdateInfo.getId());
 
-        // [Step 4] 이미지 ID가 존재하면, 해당 이미지 ID로 새로운 이미지 매핑 (벌크 업데이트)
+        // [Step 4] 이미지 ID가 존재하면, 해당 이미지 ID로 새로운 이미지 매핑 (벌크 업데이트, 다른 상품의 이미지는 거부)
         if (!productUpdateInfo.getImageIds().isEmpty()) {
             imageService.assignProduct(productUpdateInfo.getId(), productUpdateInfo.getImageIds());
         }
 
         // [Step 5] 응답 생성 (상품에 매핑된 이미지 목록을 포함)
-        List<Image> images = imageService.findImageByProductId(product.getId());
+        List<ImageInfo> images = imageService.findImageByProductId(product.getId());
 
         return ProductResponse.of(
                 product,
-                images.stream().map(ImageResponse::of).toList()
+                images.stream().map(this::toImageResponse).toList()
         );
     }
 
+    /**
+     * [private 메서드]
+     * - 상품 목록의 이미지를 단일 IN 쿼리로 조회 후 productId 기준으로 메모리에서 그룹핑하여 응답 생성
+     */
+    private List<ProductResponse<ImageResponse>> toResponses(List<Product> products) {
+        if (products.isEmpty()) return Collections.emptyList();
+
+        Map<Long, List<ImageResponse>> imagesByProductId = imageService.findImagesByProductIds(
+                        products.stream().map(Product::getId).toList()
+                ).stream()
+                .collect(Collectors.groupingBy(
+                        ImageInfo::getProductId,
+                        Collectors.mapping(this::toImageResponse, Collectors.toList())
+                ));
+
+        return products.stream()
+                .map(product -> ProductResponse.of(
+                        product,
+                        imagesByProductId.getOrDefault(product.getId(), Collections.emptyList())
+                ))
+                .toList();
+    }
+
     /**
      * [private 메서드]
      * - productId 조회
@@ -113,4 +190,12 @@ public class ProductService {
         return productRepository.findById(id)
                 .orElseThrow(() -> new CustomApplicationException(ErrorCode.NOT_FOUND_PRODUCT));
     }
+
+    /**
+     * [private 메서드]
+     * - 이미지 응답 생성 (조회 URL, 업로드 시 생성한 변환본 URL 포함)
+     */
+    private ImageResponse toImageResponse(ImageInfo imageInfo) {
+        return ImageResponse.of(imageInfo, imageUrlSigner.getUrl(imageInfo), imageUrlSigner.getVariantUrls(imageInfo));
+    }
 }
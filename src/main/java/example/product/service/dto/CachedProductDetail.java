@@ -0,0 +1,32 @@
+package example.product.service.dto;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+/**
+ * [직렬화된 상품 상세 응답]
+ * - JSON(UTF-8) 바이트와 바이트 내용으로 만든 강한 ETag
+ */
+@Getter
+public class CachedProductDetail {
+
+    private final byte[] body;
+    private final String etag;
+
+    public CachedProductDetail(byte[] body) {
+        this.body = body;
+        this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    // If-None-Match 헤더 값(여러 ETag, *, 약한 ETag 포함)이 현재 ETag와 일치하는지 확인
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,122 @@
+package example.global.lock;
+
+import example.domain.locks.SchedulerLock;
+import example.domain.locks.SchedulerLockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [DB 기반 분산 잠금 검증]
+ * - 여러 노드(획득마다 다른 보유자 토큰)가 같은 파티션 잠금을 동시에 요청하면 하나만 획득해야 함
+ * - 만료된 임대는 다른 노드가 가져갈 수 있고, 이전 보유자의 연장은 실패해야 함
+ * - 정리 작업의 잠금과 겹치지 않도록 테스트마다 새 잠금 이름 사용
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SchedulerLockManagerTest {
+
+    private static final int CONTENDERS = 8;
+
+    @Autowired
+    private SchedulerLockManager schedulerLockManager;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CONTENDERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void onlyOneOwnerAcquiresPartition() throws Exception {
+        String name = lockName();
+
+        // 만료된 상태의 잠금 행을 만든 뒤 동시에 획득 시도 (조건부 UPDATE 경쟁)
+        schedulerLockRepository.insertIfAbsent(name, LocalDateTime.now());
+        List<Optional<SchedulerLease>> leases = acquireConcurrently(name, Duration.ofMinutes(10));
+
+        assertThat(leases).filteredOn(Optional::isPresent).hasSize(1);
+        SchedulerLease lease = leases.stream().flatMap(Optional::stream).findFirst().orElseThrow();
+
+        // 보유 중에는 다른 노드가 획득할 수 없고, 보유자는 연장 가능
+        assertThat(schedulerLockManager.tryAcquire(name, Duration.ofMinutes(10))).isEmpty();
+        assertThat(lease.extend()).isTrue();
+
+        // 해제하면 바로 다른 노드가 획득
+        lease.release();
+        Optional<SchedulerLease> next = schedulerLockManager.tryAcquire(name, Duration.ofMinutes(10));
+        assertThat(next).isPresent();
+        assertThat(lease.extend()).isFalse();
+        next.get().release();
+    }
+
+    @Test
+    void takeOverExpiredLease() throws Exception {
+        String name = lockName();
+
+        // 보유 노드가 연장하지 못하고 임대 기간이 지남
+        SchedulerLease expired = schedulerLockManager.tryAcquire(name, Duration.ofMillis(50)).orElseThrow();
+        Thread.sleep(200);
+
+        // 만료된 잠금도 동시에 요청하면 하나만 가져감
+        List<Optional<SchedulerLease>> leases = acquireConcurrently(name, Duration.ofMinutes(10));
+        assertThat(leases).filteredOn(Optional::isPresent).hasSize(1);
+        SchedulerLease lease = leases.stream().flatMap(Optional::stream).findFirst().orElseThrow();
+
+        // 이전 보유자는 연장/해제로 새 보유자의 잠금을 건드릴 수 없음
+        assertThat(expired.extend()).isFalse();
+        expired.release();
+        SchedulerLock schedulerLock = schedulerLockRepository.findById(name).orElseThrow();
+        assertThat(schedulerLock.getLockedUntil()).isAfter(LocalDateTime.now().plusMinutes(9));
+        assertThat(schedulerLockManager.tryAcquire(name, Duration.ofMinutes(10))).isEmpty();
+
+        assertThat(lease.extend()).isTrue();
+        lease.release();
+    }
+
+    // 모든 요청이 준비된 뒤 동시에 획득 시도
+    private List<Optional<SchedulerLease>> acquireConcurrently(String name, Duration leaseTime) throws Exception {
+        CountDownLatch ready = new CountDownLatch(CONTENDERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<SchedulerLease>>> futures = IntStream.range(0, CONTENDERS)
+                .mapToObj(i -> executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return schedulerLockManager.tryAcquire(name, leaseTime);
+                }))
+                .toList();
+
+        ready.await();
+        start.countDown();
+        return futures.stream().map(future -> {
+            try {
+                return future.get();
+            } catch (Exception exception) {
+                throw new IllegalStateException(exception);
+            }
+        }).toList();
+    }
+
+    private String lockName() {
+        return "test-lock-" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,166 @@
+package example.image.service;
+
+import com.jayway.jsonpath.JsonPath;
+import example.domain.images.Image;
+import example.domain.images.ImageType;
+import example.domain.images.ImageVariant;
+import example.domain.images.StoredObject;
+import example.domain.images.repository.ImageRepository;
+import example.domain.images.repository.StoredObjectRepository;
+import example.image.storage.ImageStorage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * [내용 해시 중복 제거 검증]
+ * - 같은 내용을 다시 올리면 저장 객체를 공유(참조 증가)하고 변환본도 함께 응답해야 함
+ * - 이미지 삭제 시 참조만 감소하고 공유 객체는 남아야 함
+ * - 조회 이후 참조 등록 전에 저장 객체가 삭제 대기(refCount 0)가 되면 실패하지 않고 직접 업로드로 전환해야 함
+ * - 테스트마다 임의 색상의 이미지를 사용하여 다른 테스트와 해시가 겹치지 않음
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ImageDeduplicationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private StoredObjectRepository storedObjectRepository;
+
+    @Autowired
+    private ImageStorage imageStorage;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void uploadSameContentTwice() throws Exception {
+        byte[] content = createPng();
+
+        Long firstId = uploadBatch(content);
+        Long secondId = uploadBatch(content);
+
+        // 두 번째 업로드는 같은 저장 객체를 참조 (참조 2)
+        StoredObject storedObject = storedObjectRepository.findById(sha256(content)).orElseThrow();
+        assertThat(storedObject.getRefCount()).isEqualTo(2);
+        assertThat(imageRepository.findById(secondId).orElseThrow().getKey()).isEqualTo(storedObject.getKey());
+
+        // 재사용한 이미지도 변환본 조회 가능
+        mockMvc.perform(get("/api/image/{imageId}/variant", firstId).param("name", "thumbnail"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/image/{imageId}/variant", secondId).param("name", "thumbnail"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deleteDecrementsReference() throws Exception {
+        byte[] content = createPng();
+        Long firstId = uploadBatch(content);
+        Long secondId = uploadBatch(content);
+        String hash = sha256(content);
+
+        // 하나 삭제 -> 참조 1, 공유 객체 유지
+        imageService.deleteImage(List.of(imageRepository.findById(firstId).orElseThrow()));
+        StoredObject storedObject = storedObjectRepository.findById(hash).orElseThrow();
+        assertThat(storedObject.getRefCount()).isEqualTo(1);
+        assertThat(imageStorage.head(storedObject.getKey())).isPresent();
+
+        // 마지막 참조 삭제 -> 참조 0 (S3 객체는 정리 작업이 제거하므로 유지)
+        imageService.deleteImage(List.of(imageRepository.findById(secondId).orElseThrow()));
+        assertThat(storedObjectRepository.findById(hash).orElseThrow().getRefCount()).isZero();
+        assertThat(imageStorage.head(storedObject.getKey())).isPresent();
+
+        // 삭제 대기 중인 객체는 재사용하지 않음
+        Long thirdId = uploadBatch(content);
+        assertThat(imageRepository.findById(thirdId).orElseThrow().getKey()).isNotEqualTo(storedObject.getKey());
+        assertThat(storedObjectRepository.findById(hash).orElseThrow().getRefCount()).isZero();
+    }
+
+    @Test
+    void fallBackToUploadWhenStoredObjectIsReleased() throws Exception {
+        byte[] content = createPng();
+        Long firstId = uploadBatch(content);
+        String hash = sha256(content);
+        String sharedKey = imageRepository.findById(firstId).orElseThrow().getKey();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 참조 중(refCount 1)인 저장 객체를 영속성 컨텍스트에 적재한 뒤 벌크 update로 DB만 0으로 변경
+            // -> 업로드가 재사용을 선택한 뒤 참조 증가 직전에 마지막 참조가 사라진 상황
+            storedObjectRepository.findById(hash).orElseThrow();
+            storedObjectRepository.decrement(hash, 1);
+
+            Image image = imageService.upload(new MockMultipartFile("imageFile", "image.png", "image/png", content), ImageType.PRODUCT);
+
+            // 실패하지 않고 직접 업로드한 객체 사용 (저장 객체 공유 없음, 변환본도 새로 생성)
+            assertThat(image.getStoredObject()).isNull();
+            assertThat(image.getKey()).isNotEqualTo(sharedKey);
+            assertThat(imageStorage.head(image.getKey())).isPresent();
+            assertThat(image.getVariants()).extracting(ImageVariant::getVariant).containsExactly("thumbnail");
+        });
+        assertThat(storedObjectRepository.findById(hash).orElseThrow().getRefCount()).isZero();
+    }
+
+    // 다건 업로드 API로 한 건 업로드 후 응답의 이미지 ID 반환 (변환본 URL 포함 여부 검증)
+    private Long uploadBatch(byte[] content) throws Exception {
+        String response = mockMvc.perform(multipart("/api/image/upload/batch")
+                        .file(new MockMultipartFile("imageFiles", "image.png", "image/png", content))
+                        .param("type", ImageType.PRODUCT.name()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].variants.thumbnail").isNotEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return ((Number) JsonPath.read(response, "$[0].id")).longValue();
+    }
+
+    private byte[] createPng() throws IOException {
+        BufferedImage image = new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(new Color(ThreadLocalRandom.current().nextInt(0x1000000)));
+            graphics.fillRect(0, 0, 64, 48);
+            graphics.setColor(new Color(ThreadLocalRandom.current().nextInt(0x1000000)));
+            graphics.fillRect(8, 8, 16, 16);
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -0,0 +1,185 @@
+package example.image.service;
+
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+import example.image.service.ImageHeaderReader.ImageHeader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * [이미지 헤더 검증 단위 테스트]
+ * - 픽셀 없이 헤더 바이트만 직접 만들어 형식 판별, 크기 조회, 거절 조건을 검증
+ * - 검증 후 스트림은 원본과 같은 바이트여야 함 (읽은 헤더를 다시 이어 붙임)
+ */
+class ImageHeaderReaderTest {
+
+    private ImageHeaderReader imageHeaderReader;
+
+    @BeforeEach
+    void setUp() {
+        imageHeaderReader = new ImageHeaderReader();
+        ReflectionTestUtils.setField(imageHeaderReader, "maxPixels", 100_000_000L);
+        ReflectionTestUtils.setField(imageHeaderReader, "maxHeaderSize", DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    void readJpegSizeAfterExifAndFillBytes() {
+        // APP0(JFIF), 초기 버퍼(4KB)보다 긴 APP1(EXIF), 채움 바이트 뒤에 SOF0
+        byte[] content = jpeg(5000, 640, 480, 1024);
+
+        ImageHeader imageHeader = imageHeaderReader.validate(new ByteArrayInputStream(content), "jpg");
+
+        assertThat(imageHeader.format()).isEqualTo(ImageFormat.JPEG);
+        assertThat(imageHeader.width()).isEqualTo(640);
+        assertThat(imageHeader.height()).isEqualTo(480);
+    }
+
+    @Test
+    void rejectTruncatedHeader() {
+        // SOF 전에 끝난 JPEG
+        byte[] jpeg = jpeg(5000, 640, 480, 0);
+        byte[] truncatedJpeg = Arrays.copyOf(jpeg, 3000);
+        assertRejected(truncatedJpeg, "jpg", ErrorCode.INVALID_FILE_CONTENT);
+
+        // IHDR 크기 필드 중간에 끝난 PNG
+        byte[] truncatedPng = Arrays.copyOf(png(320, 200), 18);
+        assertRejected(truncatedPng, "png", ErrorCode.INVALID_FILE_CONTENT);
+    }
+
+    @Test
+    void rejectPngWidthOutOfRange() {
+        // PNG 크기 필드는 2^31 - 1까지만 허용
+        assertRejected(png(0x80000000, 200), "png", ErrorCode.INVALID_FILE_CONTENT);
+        assertRejected(png(0xFFFFFFFF, 200), "png", ErrorCode.INVALID_FILE_CONTENT);
+    }
+
+    @Test
+    void readGifSize() {
+        ImageHeader gif87a = imageHeaderReader.validate(new ByteArrayInputStream(gif("GIF87a", 320, 200)), "gif");
+        assertThat(gif87a.format()).isEqualTo(ImageFormat.GIF);
+        assertThat(gif87a.width()).isEqualTo(320);
+        assertThat(gif87a.height()).isEqualTo(200);
+
+        ImageHeader gif89a = imageHeaderReader.validate(new ByteArrayInputStream(gif("GIF89a", 0xFFFF, 1)), "GIF");
+        assertThat(gif89a.format()).isEqualTo(ImageFormat.GIF);
+        assertThat(gif89a.width()).isEqualTo(0xFFFF);
+        assertThat(gif89a.height()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectExtensionMismatch() {
+        assertRejected(png(320, 200), "jpg", ErrorCode.FILE_EXTENSION_MISMATCH);
+        assertRejected(jpeg(16, 320, 200, 0), "png", ErrorCode.FILE_EXTENSION_MISMATCH);
+        assertRejected(gif("GIF89a", 320, 200), "jpeg", ErrorCode.FILE_EXTENSION_MISMATCH);
+    }
+
+    @Test
+    void rejectExceedPixels() {
+        assertRejected(png(20_000, 20_000), "png", ErrorCode.EXCEED_IMAGE_PIXELS);
+    }
+
+    @Test
+    void rejectHeaderLargerThanMaxHeaderSize() {
+        ReflectionTestUtils.setField(imageHeaderReader, "maxHeaderSize", DataSize.ofKilobytes(4));
+
+        // SOF가 max-header-size(4KB) 이후에 있음
+        assertRejected(jpeg(5000, 640, 480, 0), "jpg", ErrorCode.INVALID_FILE_CONTENT);
+        // 한도 안이면 통과
+        assertThat(imageHeaderReader.validate(new ByteArrayInputStream(jpeg(3000, 640, 480, 0)), "jpg").width()).isEqualTo(640);
+    }
+
+    @Test
+    void replayOriginalBytes() throws IOException {
+        byte[] content = jpeg(5000, 640, 480, 256 * 1024);
+
+        // 한 번에 적은 바이트만 반환하는 스트림 (소켓 읽기처럼 버퍼를 여러 번 나눠 채움)
+        InputStream inputStream = new FilterInputStream(new ByteArrayInputStream(content)) {
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                return super.read(bytes, offset, Math.min(length, 7));
+            }
+        };
+        ImageHeader imageHeader = imageHeaderReader.validate(inputStream, "jpeg");
+
+        assertThat(imageHeader.inputStream().readAllBytes()).isEqualTo(content);
+    }
+
+    private void assertRejected(byte[] content, String extension, ErrorCode errorCode) {
+        assertThatThrownBy(() -> imageHeaderReader.validate(new ByteArrayInputStream(content), extension))
+                .isInstanceOf(CustomApplicationException.class)
+                .extracting("errorCode")
+                .isEqualTo(errorCode);
+    }
+
+    // SOI, APP0(JFIF), APP1(EXIF, exifLength 바이트), 채움 바이트, SOF0, 이후 임의 본문
+    private byte[] jpeg(int exifLength, int width, int height, int bodyLength) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xD8});
+
+        outputStream.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xE0, 0x00, 0x10, 'J', 'F', 'I', 'F', 0x00, 0x01, 0x01, 0x00, 0x00, 0x01, 0x00, 0x01, 0x00, 0x00});
+
+        outputStream.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xE1});
+        writeShortBigEndian(outputStream, exifLength + 2);
+        byte[] exif = new byte[exifLength];
+        ThreadLocalRandom.current().nextBytes(exif);
+        outputStream.writeBytes(exif);
+
+        outputStream.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF});
+
+        outputStream.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xC0, 0x00, 0x11, 0x08});
+        writeShortBigEndian(outputStream, height);
+        writeShortBigEndian(outputStream, width);
+        outputStream.writeBytes(new byte[]{0x03, 0x01, 0x22, 0x00, 0x02, 0x11, 0x01, 0x03, 0x11, 0x01});
+
+        byte[] body = new byte[bodyLength];
+        ThreadLocalRandom.current().nextBytes(body);
+        outputStream.writeBytes(body);
+        return outputStream.toByteArray();
+    }
+
+    // PNG 시그니처, IHDR 청크 (가로/세로는 부호 없는 4바이트)
+    private byte[] png(long width, long height) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.writeBytes(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        outputStream.writeBytes(new byte[]{0x00, 0x00, 0x00, 0x0D, 'I', 'H', 'D', 'R'});
+        writeIntBigEndian(outputStream, width);
+        writeIntBigEndian(outputStream, height);
+        outputStream.writeBytes(new byte[]{0x08, 0x02, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00});
+        return outputStream.toByteArray();
+    }
+
+    // GIF 시그니처, 논리 화면 크기 (리틀 엔디언 2바이트)
+    private byte[] gif(String signature, int width, int height) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.writeBytes(signature.getBytes());
+        outputStream.write(width & 0xFF);
+        outputStream.write(width >> 8 & 0xFF);
+        outputStream.write(height & 0xFF);
+        outputStream.write(height >> 8 & 0xFF);
+        outputStream.writeBytes(new byte[]{0x00, 0x00, 0x00, 0x3B});
+        return outputStream.toByteArray();
+    }
+
+    private void writeShortBigEndian(ByteArrayOutputStream outputStream, int value) {
+        outputStream.write(value >> 8 & 0xFF);
+        outputStream.write(value & 0xFF);
+    }
+
+    private void writeIntBigEndian(ByteArrayOutputStream outputStream, long value) {
+        writeShortBigEndian(outputStream, (int) (value >> 16 & 0xFFFF));
+        writeShortBigEndian(outputStream, (int) (value & 0xFFFF));
+    }
+}
@@ -0,0 +1,277 @@
+package example.image.storage;
+
+import example.global.exception.CustomApplicationException;
+import example.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * [병렬 멀티파트 업로드 단위 테스트]
+ * - S3Client를 메모리 스텁으로 대체하여 파트 재시도, 실패 시 abort, 파트 버퍼 반납, 버퍼 대기 시간 초과를 검증
+ * - 파트 크기 1KB, 버퍼 풀 8개, 업로드 당 동시 전송 4개로 설정
+ */
+class S3MultipartUploaderTest {
+
+    private static final int PART_SIZE = 1024;
+    private static final int BUFFER_POOL_SIZE = 8;
+
+    private final ExecutorService s3UploadExecutor = Executors.newFixedThreadPool(4);
+    private StubS3Client s3Client;
+    private S3MultipartUploader s3MultipartUploader;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new StubS3Client();
+        s3MultipartUploader = new S3MultipartUploader(s3Client, s3UploadExecutor);
+        ReflectionTestUtils.setField(s3MultipartUploader, "bucketName", "bucket");
+        ReflectionTestUtils.setField(s3MultipartUploader, "threshold", DataSize.ofBytes(PART_SIZE));
+        ReflectionTestUtils.setField(s3MultipartUploader, "partSize", DataSize.ofBytes(PART_SIZE));
+        ReflectionTestUtils.setField(s3MultipartUploader, "concurrency", 4);
+        ReflectionTestUtils.setField(s3MultipartUploader, "bufferPoolSize", BUFFER_POOL_SIZE);
+        ReflectionTestUtils.setField(s3MultipartUploader, "bufferWaitTimeout", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(s3MultipartUploader, "maxAttempts", 3);
+        ReflectionTestUtils.setField(s3MultipartUploader, "maxFileSize", DataSize.ofMegabytes(1));
+        s3MultipartUploader.initBufferPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3UploadExecutor.shutdownNow();
+    }
+
+    @Test
+    void retryFailedPartWithBackoff() {
+        // 2번 파트만 첫 시도 실패
+        s3Client.partHandler = (partNumber, attempt) -> {
+            if (partNumber == 2 && attempt == 1) throw SdkClientException.create("connection reset");
+        };
+        byte[] content = randomBytes(PART_SIZE * 3 + PART_SIZE / 2);
+
+        long uploaded = s3MultipartUploader.upload("image.png", "image/png", new ByteArrayInputStream(content), content.length);
+
+        // 실패한 파트만 backoff(200ms) 후 다시 전송, 나머지 파트는 한 번씩
+        assertThat(uploaded).isEqualTo(content.length);
+        assertThat(s3Client.attemptTimes.get(2)).hasSize(2);
+        assertThat(s3Client.attemptTimes.get(2).get(1) - s3Client.attemptTimes.get(2).get(0))
+                .isGreaterThanOrEqualTo(Duration.ofMillis(200).toNanos());
+        assertThat(s3Client.attemptTimes.get(1)).hasSize(1);
+        assertThat(s3Client.attemptTimes.get(3)).hasSize(1);
+        assertThat(s3Client.attemptTimes.get(4)).hasSize(1);
+
+        // 파트 번호 순서로 완료 요청, 이어 붙인 내용은 원본과 동일
+        assertThat(s3Client.completedParts).extracting(CompletedPart::partNumber).containsExactly(1, 2, 3, 4);
+        assertThat(s3Client.assemble()).isEqualTo(content);
+        assertThat(s3Client.aborts).hasValue(0);
+        assertAllBuffersReleased();
+    }
+
+    @Test
+    void abortAfterInFlightParts() {
+        // 2번 파트는 재시도까지 모두 실패, 나머지 파트는 실패가 확정된 뒤에도 전송 중
+        s3Client.partHandler = (partNumber, attempt) -> {
+            if (partNumber == 2) throw SdkClientException.create("connection reset");
+            sleep(Duration.ofMillis(800));
+        };
+        byte[] content = randomBytes(PART_SIZE * 4);
+
+        assertThatThrownBy(() -> s3MultipartUploader.upload("image.png", "image/png", new ByteArrayInputStream(content), content.length))
+                .hasRootCauseInstanceOf(SdkException.class);
+
+        // 진행 중인 파트가 모두 끝난 뒤 한 번만 abort, 완료 요청 없음
+        assertThat(s3Client.aborts).hasValue(1);
+        assertThat(s3Client.inFlightPartsAtAbort).isZero();
+        assertThat(s3Client.attemptTimes.get(2)).hasSize(3);
+        assertThat(s3Client.completedParts).isNull();
+        assertAllBuffersReleased();
+    }
+
+    @Test
+    void releaseBuffersWhenFileSizeExceeded() {
+        ReflectionTestUtils.setField(s3MultipartUploader, "maxFileSize", DataSize.ofBytes(PART_SIZE * 2));
+        byte[] content = randomBytes(PART_SIZE * 5);
+
+        // 크기를 모르는 스트리밍 업로드가 허용 크기를 넘으면 413, 이미 전송한 파트는 abort
+        assertThatThrownBy(() -> s3MultipartUploader.upload("image.png", "image/png", new ByteArrayInputStream(content), -1))
+                .isInstanceOf(CustomApplicationException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EXCEED_FILE_SIZE);
+        assertThat(s3Client.aborts).hasValue(1);
+        assertAllBuffersReleased();
+    }
+
+    @Test
+    void releaseBufferWhenStreamFails() {
+        InputStream failingStream = new InputStream() {
+            private int read;
+
+            @Override
+            public int read() throws IOException {
+                if (read++ >= PART_SIZE + 10) throw new IOException("client disconnected");
+                return 0;
+            }
+        };
+
+        // 두 번째 파트를 읽다가 요청 본문이 끊김
+        assertThatThrownBy(() -> s3MultipartUploader.upload("image.png", "image/png", failingStream, -1))
+                .isInstanceOf(CustomApplicationException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.IO_EXCEPTION_UPLOAD_FILE);
+        assertThat(s3Client.aborts).hasValue(1);
+        assertAllBuffersReleased();
+    }
+
+    @Test
+    void rejectWhenBufferWaitTimesOut() {
+        // 다른 업로드들이 풀의 버퍼를 모두 사용 중
+        PartBufferPool bufferPool = bufferPool();
+        List<byte[]> buffers = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < BUFFER_POOL_SIZE; i++) {
+            buffers.add(bufferPool.acquire(Duration.ofMillis(100)));
+        }
+        byte[] content = randomBytes(PART_SIZE * 2);
+
+        // buffer-wait-timeout(200ms) 후 503, S3 요청 없음
+        assertThatThrownBy(() -> s3MultipartUploader.upload("image.png", "image/png", new ByteArrayInputStream(content), content.length))
+                .isInstanceOfSatisfying(CustomApplicationException.class, exception -> {
+                    assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_UPLOADS);
+                    assertThat(exception.getExceptionHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                });
+        assertThat(s3Client.createdUploads).hasValue(0);
+
+        // 버퍼가 반납되면 다시 업로드 가능
+        buffers.forEach(bufferPool::release);
+        assertThat(s3MultipartUploader.upload("image.png", "image/png", new ByteArrayInputStream(content), content.length))
+                .isEqualTo(content.length);
+        assertAllBuffersReleased();
+    }
+
+    // 풀의 버퍼를 모두 바로 획득할 수 있으면 반납 누락 없음
+    private void assertAllBuffersReleased() {
+        PartBufferPool bufferPool = bufferPool();
+        List<byte[]> buffers = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < BUFFER_POOL_SIZE; i++) {
+            buffers.add(bufferPool.acquire(Duration.ofMillis(100)));
+        }
+        buffers.forEach(bufferPool::release);
+    }
+
+    private PartBufferPool bufferPool() {
+        return (PartBufferPool) ReflectionTestUtils.getField(s3MultipartUploader, "bufferPool");
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface PartHandler {
+        void handle(int partNumber, int attempt);
+    }
+
+    /**
+     * 멀티파트 API만 구현한 S3Client 스텁
+     * - 파트별 시도 시각과 전송된 바이트를 기록하고, abort 시점에 전송 중인 파트 수를 기록
+     */
+    private static final class StubS3Client implements S3Client {
+
+        private final Map<Integer, List<Long>> attemptTimes = new ConcurrentHashMap<>();
+        private final Map<Integer, byte[]> partContents = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlightParts = new AtomicInteger();
+        private final AtomicInteger createdUploads = new AtomicInteger();
+        private final AtomicInteger aborts = new AtomicInteger();
+        private volatile int inFlightPartsAtAbort = -1;
+        private volatile List<CompletedPart> completedParts;
+        private volatile PartHandler partHandler = (partNumber, attempt) -> {
+        };
+
+        @Override
+        public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+            createdUploads.incrementAndGet();
+            return CreateMultipartUploadResponse.builder().uploadId("upload-id").build();
+        }
+
+        @Override
+        public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+            List<Long> attempts = attemptTimes.computeIfAbsent(request.partNumber(), partNumber -> new CopyOnWriteArrayList<>());
+            attempts.add(System.nanoTime());
+            inFlightParts.incrementAndGet();
+            try {
+                partHandler.handle(request.partNumber(), attempts.size());
+                try (InputStream inputStream = requestBody.contentStreamProvider().newStream()) {
+                    partContents.put(request.partNumber(), inputStream.readAllBytes());
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+                return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+            } finally {
+                inFlightParts.decrementAndGet();
+            }
+        }
+
+        @Override
+        public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            completedParts = request.multipartUpload().parts();
+            return CompleteMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+            inFlightPartsAtAbort = inFlightParts.get();
+            aborts.incrementAndGet();
+            return AbortMultipartUploadResponse.builder().build();
+        }
+
+        // 완료된 파트를 파트 번호 순서로 이어 붙인 내용
+        private byte[] assemble() {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            completedParts.forEach(part -> outputStream.writeBytes(partContents.get(part.partNumber())));
+            return outputStream.toByteArray();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
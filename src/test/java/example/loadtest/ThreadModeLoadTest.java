@@ -0,0 +1,125 @@
+package example.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * [플랫폼 스레드 / 가상 스레드 모드 부하 비교]
+ * - 같은 애플리케이션을 VIRTUAL_THREADS_ENABLED=false / true 로 각각 띄운 뒤 동일한 부하를 걸어 처리량과 p99 지연시간 비교
+ * - 실행: ./gradlew loadTest -DloadTest.platformUrl=http://localhost:8080 -DloadTest.virtualUrl=http://localhost:8081
+ * - 옵션: loadTest.path (기본 /api/product/1), loadTest.concurrency (기본 400), loadTest.durationSeconds (기본 30)
+ */
+@Tag("load")
+class ThreadModeLoadTest {
+
+    private static final String PATH = System.getProperty("loadTest.path", "/api/product/1");
+    private static final int CONCURRENCY = Integer.getInteger("loadTest.concurrency", 400);
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadTest.durationSeconds", 30));
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        String platformUrl = System.getProperty("loadTest.platformUrl");
+        String virtualUrl = System.getProperty("loadTest.virtualUrl");
+        assumeTrue(platformUrl != null && virtualUrl != null, "loadTest.platformUrl, loadTest.virtualUrl 이 필요합니다.");
+
+        LoadResult platform = run(URI.create(platformUrl + PATH));
+        LoadResult virtual = run(URI.create(virtualUrl + PATH));
+
+        System.out.printf("%-10s %12s %10s %10s %8s%n", "mode", "req/s", "p50(ms)", "p99(ms)", "errors");
+        System.out.println(platform.format("platform"));
+        System.out.println(virtual.format("virtual"));
+
+        assertThat(platform.requests()).isPositive();
+        assertThat(virtual.requests()).isPositive();
+    }
+
+    /**
+     * - 워밍업 후 CONCURRENCY 개의 클라이언트가 DURATION 동안 요청을 반복 (closed-loop)
+     */
+    private LoadResult run(URI uri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        drive(request, WARM_UP);
+        return drive(request, DURATION);
+    }
+
+    private LoadResult drive(HttpRequest request, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<long[]>> workers = new ArrayList<>();
+        long[] errors = new long[CONCURRENCY];
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                int worker = i;
+                workers.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) errors[worker]++;
+                        } catch (Exception exception) {
+                            errors[worker]++;
+                        }
+                        if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+        }
+
+        long[] all = new long[0];
+        for (Future<long[]> worker : workers) {
+            long[] latencies = worker.get();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + latencies.length);
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+        }
+        Arrays.sort(all);
+        return new LoadResult(all, Arrays.stream(errors).sum(), duration);
+    }
+
+    private record LoadResult(long[] sortedLatencies, long errors, Duration duration) {
+
+        long requests() {
+            return sortedLatencies.length;
+        }
+
+        double throughput() {
+            return requests() / (duration.toMillis() / 1000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) return 0;
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        String format(String mode) {
+            return String.format("%-10s %12.1f %10.2f %10.2f %8d",
+                    mode, throughput(), percentileMillis(0.50), percentileMillis(0.99), errors);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package example.product.controller;
+
+import example.domain.images.Image;
+import example.domain.images.repository.ImageRepository;
+import example.domain.products.Product;
+import example.domain.products.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * [상품 API SQL 실행 횟수 검증]
+ * - 이미지 조회는 ImageInfo 프로젝션으로 처리되어 이미지 수와 관계없이 요청별 SQL 실행 횟수가 고정되어야 함
+ * - 이미지마다 product 지연 로딩/프록시 초기화 쿼리가 추가되면 실패
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductControllerQueryCountTest {
+
+    private static final int IMAGE_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void detailProduct() throws Exception {
+        Product product = createProductWithImages();
+        statistics.clear();
+
+        // 상품 1회 + 이미지 1회
+        mockMvc.perform(get("/api/product/{productId}", product.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.images.length()").value(IMAGE_COUNT))
+                .andExpect(jsonPath("$.images[0].productId").value(product.getId()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // 캐시 hit -> SQL 실행 없음
+        statistics.clear();
+        mockMvc.perform(get("/api/product/{productId}", product.getId()))
+                .andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void findProducts() throws Exception {
+        Product first = createProductWithImages();
+        Product second = createProductWithImages();
+        statistics.clear();
+
+        // 상품 1회 + 이미지 IN 1회
+        mockMvc.perform(get("/api/product").param("ids", first.getId() + "," + second.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].images.length()").value(IMAGE_COUNT));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findProductPage() throws Exception {
+        createProductWithImages();
+        createProductWithImages();
+        statistics.clear();
+
+        // 상품 키셋 1회 + 이미지 IN 1회
+        mockMvc.perform(get("/api/product").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products.length()").value(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void createProduct() throws Exception {
+        productRepository.save(Product.create("상품", 1000, "설명")); // 상품 ID 시퀀스 풀 선할당 (요청 중 시퀀스 조회 제외)
+        List<Image> images = createImages(null);
+        statistics.clear();
+
+        // 상품 insert 1회 + 이미지 매핑 벌크 update 1회 + 이미지 조회 1회
+        mockMvc.perform(post("/api/product")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(productRequest(images)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.images.length()").value(IMAGE_COUNT));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void updateProduct() throws Exception {
+        Product product = createProductWithImages();
+        List<Image> images = createImages(null);
+        statistics.clear();
+
+        // 상품 조회 1회 + 매핑 해제 1회 + 재매핑 1회 + 이미지 조회 1회 + 상품 update 1회
+        mockMvc.perform(put("/api/product/{productId}", product.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(productRequest(images)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.images.length()").value(IMAGE_COUNT));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+
+    private Product createProductWithImages() {
+        Product product = productRepository.save(Product.create("상품", 1000, "설명"));
+        createImages(product);
+        return product;
+    }
+
+    private List<Image> createImages(Product product) {
+        List<Image> images = new ArrayList<>();
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            Image image = Image.create("images/", "image-" + i + ".png");
+            if (product != null) image.assignProduct(product);
+            images.add(image);
+        }
+        return imageRepository.saveAll(images);
+    }
+
+    private String productRequest(List<Image> images) {
+        String imageIds = String.join(",", images.stream().map(image -> String.valueOf(image.getId())).toList());
+        return """
+                {"name": "상품", "price": 1000, "description": "설명", "imageIds": [%s]}
+                """.formatted(imageIds);
+    }
+}